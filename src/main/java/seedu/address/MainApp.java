@@ -15,6 +15,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ReminderScheduler;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -64,6 +65,7 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
+    protected ReminderScheduler reminderScheduler;
 
 
     @Override
@@ -89,6 +91,10 @@ public class MainApp extends Application {
 
         logic = new LogicManager(model);
 
+        reminderScheduler = new ReminderScheduler();
+        reminderScheduler.trackTaskBook(model.getTaskBook());
+        reminderScheduler.trackEventBook(model.getEventBook());
+
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
@@ -250,6 +256,7 @@ public class MainApp extends Application {
     private UserPrefs userPrefsSanityCheck(UserPrefs initializedPrefs) {
         UserPrefs verifiedPrefs;
         verifiedPrefs = validateBackupPaths(initializedPrefs);
+        verifiedPrefs = validateUndoHistoryBounds(verifiedPrefs);
         return verifiedPrefs;
     }
 
@@ -275,6 +282,25 @@ public class MainApp extends Application {
     }
     //@@author
 
+    /**
+     * Resets the undo history bounds of userprefs to their defaults if they are not positive
+     * @param initializedPrefs
+     * @return userprefs with validated undo history bounds
+     */
+    private UserPrefs validateUndoHistoryBounds(UserPrefs initializedPrefs) {
+        if (initializedPrefs.getUndoHistoryMaxStates() <= 0) {
+            logger.warning("Undo history max states " + initializedPrefs.getUndoHistoryMaxStates()
+                    + " is not positive. Using default of " + UserPrefs.DEFAULT_UNDO_HISTORY_MAX_STATES);
+            initializedPrefs.setUndoHistoryMaxStates(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_STATES);
+        }
+        if (initializedPrefs.getUndoHistoryMaxBytes() <= 0) {
+            logger.warning("Undo history max bytes " + initializedPrefs.getUndoHistoryMaxBytes()
+                    + " is not positive. Using default of " + UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES);
+            initializedPrefs.setUndoHistoryMaxBytes(UserPrefs.DEFAULT_UNDO_HISTORY_MAX_BYTES);
+        }
+        return initializedPrefs;
+    }
+
     private void initEventsCenter() {
         EventsCenter.getInstance().registerHandler(this);
     }
@@ -289,6 +315,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Student Planner ] =============================");
         ui.stop();
+        reminderScheduler.stop();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -0,0 +1,272 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.events.model.EventBookChangedEvent;
+import seedu.address.commons.events.model.TaskBookChangedEvent;
+import seedu.address.commons.events.ui.NewNotificationAvailableEvent;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.ReadOnlyEventBook;
+import seedu.address.model.ReadOnlyTaskBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.task.Task;
+
+/**
+ * Raises a {@link NewNotificationAvailableEvent} when a task falls due or an event starts while the app is running.
+ *
+ * Upcoming reminders are kept in a min-heap ordered by due time, and a single background timer is set for the
+ * earliest of them. The scheduler starts tracking a task or event book the first time it is given or told about it,
+ * and from then on listens to the book's list, so adding, editing or removing an item only costs a heap operation
+ * and the books are never scanned again.
+ */
+public class ReminderScheduler extends ComponentManager {
+
+    public static final String TASK_DUE_TITLE = "Task due";
+    public static final String EVENT_STARTING_TITLE = "Event starting";
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final Clock clock;
+    private final ScheduledExecutorService timer;
+    private final PriorityQueue<Reminder> upcomingReminders =
+            new PriorityQueue<>(Comparator.comparingLong(reminder -> reminder.dueEpochMinute));
+    /** The reminder in {@code upcomingReminders} of each item that has not been removed or reminded of yet. */
+    private final Map<Object, Reminder> remindersByItem = new IdentityHashMap<>();
+    private final Set<Object> trackedBooks = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** Held so that the lists, which may be views listening only weakly to the books, keep being listened to. */
+    private final List<ObservableList<?>> trackedLists = new ArrayList<>();
+    private int cancelledCount = 0;
+    private ScheduledFuture<?> wakeUp;
+    private long wakeUpEpochMinute = Long.MAX_VALUE;
+
+    /**
+     * Creates a scheduler on the system clock, whose timer thread does not keep the app running.
+     */
+    public ReminderScheduler() {
+        this(Clock.systemDefaultZone(), Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a scheduler that tells the time with {@code clock} and waits for reminders on {@code timer}.
+     */
+    public ReminderScheduler(Clock clock, ScheduledExecutorService timer) {
+        requireAllNonNull(clock, timer);
+        this.clock = clock;
+        this.timer = timer;
+    }
+
+    @Subscribe
+    public void handleTaskBookChangedEvent(TaskBookChangedEvent event) {
+        trackTaskBook(event.data);
+    }
+
+    @Subscribe
+    public void handleEventBookChangedEvent(EventBookChangedEvent event) {
+        trackEventBook(event.data);
+    }
+
+    /**
+     * Schedules a reminder at the end of each task in {@code taskBook}, and keeps them up to date with the book.
+     * Does nothing if the book is already tracked.
+     */
+    public void trackTaskBook(ReadOnlyTaskBook taskBook) {
+        requireNonNull(taskBook);
+        track(taskBook, taskBook.getTaskList(), this::toTaskReminder);
+    }
+
+    /**
+     * Schedules a reminder at the start of each event in {@code eventBook}, and keeps them up to date with the book.
+     * Does nothing if the book is already tracked.
+     */
+    public void trackEventBook(ReadOnlyEventBook eventBook) {
+        requireNonNull(eventBook);
+        track(eventBook, eventBook.getEventList(), this::toEventReminder);
+    }
+
+    /**
+     * Returns the number of reminders that are still to be raised.
+     */
+    public synchronized int getPendingCount() {
+        return remindersByItem.size();
+    }
+
+    /**
+     * Raises the reminders that are due by now, and sets the timer for the next one.
+     */
+    public void raiseDueReminders() {
+        List<Reminder> dueReminders = new ArrayList<>();
+        synchronized (this) {
+            long now = DateUtil.toEpochMinute(LocalDateTime.now(clock));
+            while (!upcomingReminders.isEmpty() && upcomingReminders.peek().dueEpochMinute <= now) {
+                Reminder reminder = upcomingReminders.poll();
+                if (reminder.isCancelled) {
+                    cancelledCount--;
+                    continue;
+                }
+                remindersByItem.remove(reminder.item);
+                dueReminders.add(reminder);
+            }
+            wakeUp = null;
+            wakeUpEpochMinute = Long.MAX_VALUE;
+            setTimer();
+        }
+        dueReminders.forEach(reminder ->
+                raise(new NewNotificationAvailableEvent(reminder.title, reminder.message, Optional.empty())));
+    }
+
+    /**
+     * Stops the timer. No reminders are raised afterwards.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Starts listening to {@code list} of {@code book} and schedules the reminders of its current items, unless the
+     * book is already tracked.
+     */
+    private synchronized <T> void track(Object book, ObservableList<T> list,
+                                        Function<T, Optional<Reminder>> reminderOf) {
+        if (!trackedBooks.add(book)) {
+            return;
+        }
+        trackedLists.add(list);
+        list.forEach(item -> schedule(item, reminderOf));
+        list.addListener((ListChangeListener<T>) change -> handleListChange(change, reminderOf));
+        setTimer();
+    }
+
+    /**
+     * Schedules the reminders of the items added to a tracked list and cancels those of the items removed from it.
+     */
+    private synchronized <T> void handleListChange(ListChangeListener.Change<? extends T> change,
+                                                   Function<T, Optional<Reminder>> reminderOf) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::cancel);
+            change.getAddedSubList().forEach(item -> schedule(item, reminderOf));
+        }
+        setTimer();
+    }
+
+    /**
+     * Adds the reminder of {@code item} to the heap, unless it has none or it would be due in the past.
+     */
+    private <T> void schedule(T item, Function<T, Optional<Reminder>> reminderOf) {
+        Optional<Reminder> reminder = reminderOf.apply(item);
+        if (!reminder.isPresent() || reminder.get().dueEpochMinute < currentEpochMinute()) {
+            return;
+        }
+        cancel(item);
+        upcomingReminders.add(reminder.get());
+        remindersByItem.put(item, reminder.get());
+    }
+
+    /**
+     * Marks the reminder of {@code item} as cancelled, leaving it in the heap until it is polled or the heap is
+     * rebuilt, so that cancelling does not have to search the heap.
+     */
+    private void cancel(Object item) {
+        Reminder reminder = remindersByItem.remove(item);
+        if (reminder == null) {
+            return;
+        }
+        reminder.isCancelled = true;
+        cancelledCount++;
+        if (cancelledCount > upcomingReminders.size() / 2) {
+            upcomingReminders.removeIf(upcomingReminder -> upcomingReminder.isCancelled);
+            cancelledCount = 0;
+        }
+    }
+
+    /**
+     * Sets the timer for the earliest reminder in the heap if it is due before the timer currently goes off.
+     */
+    private void setTimer() {
+        while (!upcomingReminders.isEmpty() && upcomingReminders.peek().isCancelled) {
+            upcomingReminders.poll();
+            cancelledCount--;
+        }
+        if (upcomingReminders.isEmpty() || upcomingReminders.peek().dueEpochMinute >= wakeUpEpochMinute) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUpEpochMinute = upcomingReminders.peek().dueEpochMinute;
+        LocalDateTime now = LocalDateTime.now(clock);
+        long delay = Math.max(0, Duration.between(now, toLocalDateTime(wakeUpEpochMinute)).toMillis());
+        try {
+            wakeUp = timer.schedule(this::raiseDueReminders, delay, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            logger.warning("Could not set the reminder timer: " + e);
+        }
+    }
+
+    private long currentEpochMinute() {
+        return DateUtil.toEpochMinute(LocalDateTime.now(clock));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMinute) {
+        return LocalDateTime.of(1970, 1, 1, 0, 0).plusMinutes(epochMinute);
+    }
+
+    private Optional<Reminder> toTaskReminder(Task task) {
+        return task.getEndDateTime().getNextOccurrence(LocalDateTime.now(clock))
+                .map(end -> new Reminder(task, DateUtil.toEpochMinute(end), TASK_DUE_TITLE,
+                        task.getTaskName() + " is due now."));
+    }
+
+    private Optional<Reminder> toEventReminder(Event event) {
+        return Optional.of(new Reminder(event, event.toEpochMinute(), EVENT_STARTING_TITLE,
+                event.getEventName() + " starts now."));
+    }
+
+    /**
+     * A notification to raise about an item of a book at the minute it is due, counted from 1970-01-01 00:00.
+     */
+    private static class Reminder {
+        private final Object item;
+        private final long dueEpochMinute;
+        private final String title;
+        private final String message;
+        private boolean isCancelled;
+
+        Reminder(Object item, long dueEpochMinute, String title, String message) {
+            this.item = item;
+            this.dueEpochMinute = dueEpochMinute;
+            this.title = title;
+            this.message = message;
+        }
+    }
+}
@@ -11,15 +11,18 @@ import seedu.address.commons.events.BaseEvent;
  */
 public class DisplayMonthlyExpenseEvent extends BaseEvent {
 
-    private final HashMap<String, String> monthlyData;
+    private final HashMap<String, Long> monthlyData;
     private final String selectedMonth;
 
-    public DisplayMonthlyExpenseEvent(HashMap<String, String> monthlyData, String selectedMonth) {
+    public DisplayMonthlyExpenseEvent(HashMap<String, Long> monthlyData, String selectedMonth) {
         this.monthlyData = monthlyData;
         this.selectedMonth = selectedMonth;
     }
 
-    public HashMap<String, String> getMonthlyData() {
+    /**
+     * Returns the total expense value of each category in cents.
+     */
+    public HashMap<String, Long> getMonthlyData() {
         requireNonNull(this.monthlyData);
         return this.monthlyData;
     }
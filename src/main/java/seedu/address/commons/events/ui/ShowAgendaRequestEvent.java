@@ -0,0 +1,15 @@
+package seedu.address.commons.events.ui;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * An event requesting to view the agenda.
+ */
+public class ShowAgendaRequestEvent extends BaseEvent {
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+}
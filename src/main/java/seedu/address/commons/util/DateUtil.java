@@ -0,0 +1,79 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Helper functions for handling dates in DD/MM/YYYY format.
+ */
+public class DateUtil {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final int DATE_LENGTH = "dd/MM/yyyy".length();
+
+    /**
+     * Returns true if {@code test} is a valid calendar date in DD/MM/YYYY format.
+     *   <br>examples:<pre>
+     *       isValidDate("28/02/2018") == true
+     *       isValidDate("29/02/2018") == false //2018 is not a leap year
+     *       isValidDate("1/02/2018") == false //day must be 2 digits
+     *       </pre>
+     * @param test cannot be null
+     */
+    public static boolean isValidDate(String test) {
+        requireNonNull(test);
+        if (test.length() != DATE_LENGTH || test.charAt(2) != '/' || test.charAt(5) != '/') {
+            return false;
+        }
+
+        int day = parseDigits(test, 0, 2);
+        int month = parseDigits(test, 3, 5);
+        int year = parseDigits(test, 6, DATE_LENGTH);
+        if (year < 1 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        return day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to {@code date}.
+     *
+     * @param date a valid date in DD/MM/YYYY format.
+     * @throws IllegalArgumentException if {@code date} is not valid.
+     */
+    public static long toEpochDay(String date) {
+        checkArgument(isValidDate(date), "Date should be a valid date in DD/MM/YYYY format");
+        return LocalDate.of(parseDigits(date, 6, DATE_LENGTH), parseDigits(date, 3, 5), parseDigits(date, 0, 2))
+                .toEpochDay();
+    }
+
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to {@code dateTime}, ignoring any seconds.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    /**
+     * Returns the non-negative number spelt by the characters of {@code text} in [{@code from}, {@code to}),
+     * or -1 if any of them is not a digit.
+     */
+    private static int parseDigits(String text, int from, int to) {
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +40,83 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code word} with its case folded, so that two words are equal ignoring case, in the sense of
+     * {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns the case-folded words of {@code sentence}, in order, where words are separated by whitespace.
+     *   <br>examples:<pre>
+     *       toFoldedWords("ABc  def") == ["abc", "def"]
+     *       toFoldedWords(" ") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> toFoldedWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        for (String word : sentence.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(foldCase(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code word} is one of {@code words}, compared exactly.
+     * Meant for words whose case has already been folded by {@link #foldCase(String)}.
+     */
+    public static boolean containsWord(String[] words, String word) {
+        requireNonNull(word);
+        for (String candidate : words) {
+            if (candidate.equals(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, which is the least number of
+     * characters to insert, delete or substitute to turn one into the other.
+     *   <br>examples:<pre>
+     *       editDistance("alice", "alise") == 1
+     *       editDistance("bob", "bobby") == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int editDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
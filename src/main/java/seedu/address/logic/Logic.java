@@ -7,6 +7,7 @@ import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.agenda.AgendaItem;
 import seedu.address.model.event.Event;
 import seedu.address.model.expense.Expense;
 import seedu.address.model.person.Person;
@@ -42,4 +43,7 @@ public interface Logic {
 
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
+
+    /** Returns an unmodifiable view of the agenda, which lists the tasks, events and expenses together */
+    ObservableList<AgendaItem> getAgenda();
 }
@@ -7,11 +7,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPENSE_CATEGORY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPENSE_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EXPENSE_VALUE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 
 import java.util.ArrayList;
 import java.util.logging.Logger;
@@ -23,25 +26,34 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddExpenseCommand;
 import seedu.address.logic.commands.AddTaskCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearExpenseCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ContactsOfCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteExpenseCommand;
 import seedu.address.logic.commands.DeleteTaskCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditExpenseCommand;
+import seedu.address.logic.commands.EventsOfCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExpenseTrendCommand;
 import seedu.address.logic.commands.FindAddressCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFuzzyCommand;
 import seedu.address.logic.commands.FindNameCommand;
 import seedu.address.logic.commands.FindPhoneCommand;
+import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.commands.ListExpenseCommand;
 import seedu.address.logic.commands.ListTaskCommand;
 import seedu.address.logic.commands.MonthlyExpenseCommand;
 import seedu.address.logic.commands.RedoCommand;
@@ -55,6 +67,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.agenda.AgendaItem;
 import seedu.address.model.event.Event;
 import seedu.address.model.expense.Expense;
 import seedu.address.model.person.Person;
@@ -113,6 +126,11 @@ public class LogicManager extends ComponentManager implements Logic {
     }
     //@@author
 
+    @Override
+    public ObservableList<AgendaItem> getAgenda() {
+        return model.getAgenda();
+    }
+
     @Override
     public ArrayList<String> getCommandList() {
         ArrayList<String> commandList = new ArrayList<>();
@@ -137,12 +155,16 @@ public class LogicManager extends ComponentManager implements Logic {
                 + PREFIX_END + " "
                 + PREFIX_PRIORITY + " "
                 + PREFIX_TAG);
+        commandList.add(AgendaCommand.COMMAND_WORD);
         commandList.add(BackupCommand.COMMAND_WORD);
         commandList.add(BackupCommand.COMMAND_WORD + " [SERVICE AUTHTOKEN]");
         commandList.add(RestoreCommand.COMMAND_WORD);
         commandList.add(RestoreCommand.COMMAND_WORD + " [SERVICE]");
         commandList.add(ClearCommand.COMMAND_WORD);
         commandList.add(ClearExpenseCommand.COMMAND_WORD);
+        commandList.add(ConflictsCommand.COMMAND_WORD);
+        commandList.add(ContactsOfCommand.COMMAND_WORD);
+        commandList.add(ContactsOfCommand.COMMAND_WORD + " INDEX");
         commandList.add(DeleteCommand.COMMAND_WORD);
         commandList.add(DeleteCommand.COMMAND_WORD + " INDEX");
         commandList.add(DeleteExpenseCommand.COMMAND_WORD);
@@ -161,16 +183,34 @@ public class LogicManager extends ComponentManager implements Logic {
                 + PREFIX_EXPENSE_DATE + " "
                 + PREFIX_EXPENSE_VALUE + " "
                 + PREFIX_TAG);
+        commandList.add(EventsOfCommand.COMMAND_WORD);
+        commandList.add(EventsOfCommand.COMMAND_WORD + " INDEX");
         commandList.add(ExitCommand.COMMAND_WORD);
         commandList.add(ExpenseTrendCommand.COMMAND_WORD);
         commandList.add(FindAddressCommand.COMMAND_WORD);
         commandList.add(FindCommand.COMMAND_WORD);
         commandList.add(FindCommand.COMMAND_WORD + " KEYWORD");
+        commandList.add(FindFuzzyCommand.COMMAND_WORD);
+        commandList.add(FindFuzzyCommand.COMMAND_WORD + " KEYWORD");
         commandList.add(FindNameCommand.COMMAND_WORD);
         commandList.add(FindPhoneCommand.COMMAND_WORD);
+        commandList.add(FindTagCommand.COMMAND_WORD);
+        commandList.add(FindTagCommand.COMMAND_WORD + " TAG");
+        commandList.add(FreeSlotsCommand.COMMAND_WORD);
+        commandList.add(FreeSlotsCommand.COMMAND_WORD + " DATE");
         commandList.add(HelpCommand.COMMAND_WORD);
         commandList.add(HistoryCommand.COMMAND_WORD);
         commandList.add(ListCommand.COMMAND_WORD);
+        commandList.add(ListExpenseCommand.COMMAND_WORD);
+        commandList.add(ListExpenseCommand.COMMAND_WORD + " "
+                + PREFIX_FROM + " "
+                + PREFIX_TO);
+        commandList.add(ListEventCommand.COMMAND_WORD);
+        commandList.add(ListEventCommand.COMMAND_WORD + " "
+                + PREFIX_FROM + " "
+                + PREFIX_TO);
+        commandList.add(ListEventCommand.COMMAND_WORD + " "
+                + PREFIX_NEXT);
         commandList.add(MonthlyExpenseCommand.COMMAND_WORD);
         commandList.add(MonthlyExpenseCommand.COMMAND_WORD + " MM/YYYY");
         commandList.add(ListTaskCommand.COMMAND_WORD);
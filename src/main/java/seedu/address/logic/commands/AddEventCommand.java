@@ -53,7 +53,8 @@ public class AddEventCommand extends Command {
 
         model.addEvent(toAdd);
         model.commitEventBook();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd)
+                + ConflictsCommand.getClashWarning(model.getClashingEvents(toAdd)));
     }
 
     @Override
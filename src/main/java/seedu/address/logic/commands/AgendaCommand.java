@@ -0,0 +1,26 @@
+package seedu.address.logic.commands;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.ShowAgendaRequestEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Shows the tasks, events and expenses together in one list, earliest first.
+ */
+public class AgendaCommand extends Command {
+
+    public static final String COMMAND_WORD = "agenda";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the tasks, events and expenses together in one list, earliest first.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String SHOWING_AGENDA_MESSAGE = "Opened agenda window.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        EventsCenter.getInstance().post(new ShowAgendaRequestEvent());
+        return new CommandResult(SHOWING_AGENDA_MESSAGE);
+    }
+}
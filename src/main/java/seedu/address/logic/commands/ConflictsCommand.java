@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.EventClash;
+
+/**
+ * Lists every pair of events in the event book that take place at the same time.
+ * An event is taken to last {@link Event#ASSUMED_DURATION_MINUTES} minutes from its start.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_NO_CLASHES = "No events clash.";
+    public static final String MESSAGE_CLASHES = "%1$d pairs of events clash:\n%2$s";
+    public static final String MESSAGE_CLASH_WARNING = "\nWarning: this event clashes with %1$s";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<EventClash> clashes = model.getEventClashes();
+        if (clashes.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CLASHES);
+        }
+
+        StringBuilder clashList = new StringBuilder();
+        for (int i = 0; i < clashes.size(); i++) {
+            clashList.append(i + 1).append(". ")
+                    .append(describe(clashes.get(i).getFirst()))
+                    .append(" and ")
+                    .append(describe(clashes.get(i).getSecond()))
+                    .append("\n");
+        }
+        return new CommandResult(String.format(MESSAGE_CLASHES, clashes.size(), clashList.toString().trim()));
+    }
+
+    /**
+     * Returns a warning naming {@code clashingEvents} to append to the result of a command that added or edited an
+     * event, or an empty string if there are none.
+     */
+    static String getClashWarning(List<Event> clashingEvents) {
+        if (clashingEvents.isEmpty()) {
+            return "";
+        }
+        return String.format(MESSAGE_CLASH_WARNING, clashingEvents.stream()
+                .map(ConflictsCommand::describe)
+                .collect(Collectors.joining(", ")));
+    }
+
+    private static String describe(Event event) {
+        return event.getEventName() + " (" + event.getEventDate() + " " + event.getEventTime() + ")";
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the persons who are contacts of an event identified using its displayed index from the event book.
+ * The persons are looked up in the model's event contact index rather than by checking every person's name.
+ */
+public class ContactsOfCommand extends Command {
+
+    public static final String COMMAND_WORD = "contactsOf";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the persons who are contacts of the event identified by the index number used in the "
+            + "displayed event list.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    private final Index targetIndex;
+
+    public ContactsOfCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Event> lastShownList = model.getFilteredEventList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_EVENT_DISPLAYED_INDEX);
+        }
+
+        Set<Person> contacts = model.getContactsOf(lastShownList.get(targetIndex.getZeroBased()));
+        model.updateFilteredPersonList(contacts::contains);
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, contacts.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ContactsOfCommand // instanceof handles nulls
+                && targetIndex.equals(((ContactsOfCommand) other).targetIndex)); // state check
+    }
+}
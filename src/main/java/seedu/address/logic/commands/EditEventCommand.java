@@ -75,7 +75,8 @@ public class EditEventCommand extends Command {
         model.updateEvent(eventToEdit, editedEvent);
         model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
         model.commitEventBook();
-        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent));
+        return new CommandResult(String.format(MESSAGE_EDIT_EVENT_SUCCESS, editedEvent)
+                + ConflictsCommand.getClashWarning(model.getClashingEvents(editedEvent)));
     }
 
     /**
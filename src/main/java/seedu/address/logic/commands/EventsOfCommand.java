@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the events that a person identified using its displayed index from the address book is a contact of.
+ * The events are looked up in the model's event contact index rather than by checking every event's contacts.
+ */
+public class EventsOfCommand extends Command {
+
+    public static final String COMMAND_WORD = "eventsOf";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the events that have the person identified by the index number used in the displayed person "
+            + "list as a contact.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    private final Index targetIndex;
+
+    public EventsOfCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Set<Event> events = model.getEventsOf(lastShownList.get(targetIndex.getZeroBased()));
+        model.updateFilteredEventList(events::contains);
+        return new CommandResult(String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, events.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EventsOfCommand // instanceof handles nulls
+                && targetIndex.equals(((EventsOfCommand) other).targetIndex)); // state check
+    }
+}
@@ -5,13 +5,11 @@ import static java.util.Objects.requireNonNull;
 import java.time.YearMonth;
 import java.util.TreeMap;
 
-import javafx.collections.ObservableList;
-
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.DisplayExpenseTrendEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseValue;
 
 /**
  * Display a new window for the trend of expense for the past 6 months
@@ -22,32 +20,24 @@ public class ExpenseTrendCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Display expense trend for past 6 months";
 
-    public static final double INITIAL_EXPENSE_VALUE = 0.0;
-
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        ObservableList<Expense> expenseList = model.getFilteredExpenseList();
-        TreeMap<String, Double> expenseTrendData = getExpenseTrendData(expenseList);
+        TreeMap<String, Double> expenseTrendData = getExpenseTrendData(model);
         EventsCenter.getInstance().post(new DisplayExpenseTrendEvent(expenseTrendData));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
-    private TreeMap<String, Double> getExpenseTrendData(ObservableList<Expense> expenseList) {
+    /**
+     * Returns the total expense value in dollars of each of the past 6 months, keyed by month.
+     * Totals are read exactly in cents from the model's running totals and only converted to dollars for the chart.
+     */
+    private TreeMap<String, Double> getExpenseTrendData(Model model) {
         YearMonth currentMonth = YearMonth.now();
         TreeMap<String, Double> expenseTrendData = new TreeMap<>();
         for (int i = 0; i < 6; i++) {
-            YearMonth selectedMonth = currentMonth.minusMonths(i);
-            expenseTrendData.put(selectedMonth.toString(), INITIAL_EXPENSE_VALUE);
-            String formattedMonth =
-                    selectedMonth.toString().substring(5) + "/" + selectedMonth.toString().substring(0, 4);
-            for (Expense expense : expenseList) {
-                if (expense.getExpenseDate().toString().contains(formattedMonth)) {
-                    double storedValue = expenseTrendData.get(selectedMonth.toString());
-                    double expenseValue = Double.parseDouble(expense.getExpenseValue().toString());
-                    expenseTrendData.put(selectedMonth.toString(), storedValue + expenseValue);
-                }
-            }
+            YearMonth month = currentMonth.minusMonths(i);
+            expenseTrendData.put(month.toString(), ExpenseValue.toDollars(model.getExpenseTotal(month)));
         }
         return expenseTrendData;
     }
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Finds and lists all persons in address book whose name contains a word close to any of the argument keywords,
+ * allowing for a few typos. Keyword matching is case insensitive.
+ * The persons are listed with the closest matches first.
+ */
+public class FindFuzzyCommand extends Command {
+
+    public static final String COMMAND_WORD = "findfuzzy";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain words that are "
+            + "at most 1 typo away from any of the specified keywords (2 typos for keywords of 6 or more letters, "
+            + "none for keywords of 1 or 2 letters), case-insensitive, "
+            + "and displays them as a list with index numbers, closest matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alise bobb";
+
+    private final List<String> keywords;
+
+    public FindFuzzyCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Map<Person, Integer> distances = model.findPersonsByNameFuzzy(keywords);
+        model.updateFilteredPersonList(distances::containsKey);
+        model.updateSortedPersonList(Comparator.comparing(distances::get));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindFuzzyCommand // instanceof handles nulls
+                && keywords.equals(((FindFuzzyCommand) other).keywords)); // state check
+    }
+}
@@ -9,16 +9,17 @@ import seedu.address.model.person.PhoneContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose phone number contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keywords ending with {@code *} match the phone numbers starting with the rest of the keyword.
  */
 public class FindPhoneCommand extends Command {
 
     public static final String COMMAND_WORD = "findphone";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone number contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose phone number is any of "
+            + "the specified keywords, or starts with a keyword ending with *, "
+            + "and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " 98835761 87438807";
+            + "Example: " + COMMAND_WORD + " 98835761 8743*";
 
     private final PhoneContainsKeywordsPredicate predicate;
 
@@ -29,7 +30,7 @@ public class FindPhoneCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(model.findPersonsByPhone(predicate.getKeywords())::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
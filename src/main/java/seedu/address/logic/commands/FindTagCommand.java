@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * Finds and lists all persons, tasks and expenses tagged with the given tag.
+ * The entries are looked up in the model's tag index rather than by checking every entry's tags.
+ */
+public class FindTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "findTag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons, tasks and expenses tagged with "
+            + "the specified tag (case-sensitive) and displays them as lists with index numbers.\n"
+            + "Parameters: TAG\n"
+            + "Example: " + COMMAND_WORD + " cs2113";
+
+    public static final String MESSAGE_SUCCESS = "%1$d persons, %2$d tasks and %3$d expenses tagged %4$s listed!";
+
+    private final Tag tag;
+
+    public FindTagCommand(Tag tag) {
+        requireNonNull(tag);
+        this.tag = tag;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        Set<Person> persons = model.getPersonsTagged(tag);
+        Set<Task> tasks = model.getTasksTagged(tag);
+        Set<Expense> expenses = model.getExpensesTagged(tag);
+
+        model.updateFilteredPersonList(persons::contains);
+        model.updateFilteredTaskList(tasks::contains);
+        model.updateFilteredExpenseList(expenses::contains);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), tasks.size(), expenses.size(), tag));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindTagCommand // instanceof handles nulls
+                && tag.equals(((FindTagCommand) other).tag)); // state check
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.task.DateTime;
+import seedu.address.model.task.Task;
+
+/**
+ * Lists the times of a day that are free of events and tasks.
+ * An event is taken to last {@link Event#ASSUMED_DURATION_MINUTES} minutes from its start, and a task to take up all
+ * the time from its start to its end.
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "freeSlots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the times of a day that are free of events "
+            + "and tasks.\n"
+            + "Parameters: DATE (in DD/MM/YYYY format)\n"
+            + "Example: " + COMMAND_WORD + " 12/11/2018";
+
+    public static final String MESSAGE_FREE_SLOTS = "Free time on %1$s:\n%2$s";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free time on %1$s.";
+
+    private final Date date;
+
+    /**
+     * Creates a FreeSlotsCommand to list the free times of {@code date}.
+     */
+    public FreeSlotsCommand(Date date) {
+        requireNonNull(date);
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Period> freePeriods = getFreePeriods(getEventPeriods(model), getTaskPeriods(model));
+        if (freePeriods.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOTS, date));
+        }
+        return new CommandResult(String.format(MESSAGE_FREE_SLOTS, date,
+                freePeriods.stream().map(Period::toString).collect(Collectors.joining("\n"))));
+    }
+
+    /**
+     * Returns the periods of the day taken up by events, earliest first, including events that started on the
+     * previous day and are still taking place.
+     */
+    private List<Period> getEventPeriods(Model model) {
+        long dayStart = date.toEpochDay() * MINUTES_PER_DAY;
+        List<Period> periods = new ArrayList<>();
+        for (Event event : model.getEventsBetween(dayStart - Event.ASSUMED_DURATION_MINUTES + 1,
+                dayStart + MINUTES_PER_DAY - 1)) {
+            int start = (int) (event.toEpochMinute() - dayStart);
+            periods.add(new Period(Math.max(start, 0),
+                    Math.min(start + Event.ASSUMED_DURATION_MINUTES, MINUTES_PER_DAY)));
+        }
+        return periods;
+    }
+
+    /**
+     * Returns the periods of the day taken up by tasks, earliest first.
+     * The tasks come from the model in order of their start, so the periods need no sorting.
+     */
+    private List<Period> getTaskPeriods(Model model) {
+        int day = DateTime.toDayOfYear(LocalDate.ofEpochDay(date.toEpochDay()));
+        List<Period> periods = new ArrayList<>();
+        for (Task task : model.getTasksOn(LocalDate.ofEpochDay(date.toEpochDay()))) {
+            int start = task.getStartDateTime().getMinuteOfYear();
+            int end = task.getEndDateTime().getMinuteOfYear();
+            int periodStart = start / MINUTES_PER_DAY == day ? start % MINUTES_PER_DAY : 0;
+            int periodEnd = end / MINUTES_PER_DAY == day ? end % MINUTES_PER_DAY : MINUTES_PER_DAY;
+            periods.add(new Period(periodStart, periodEnd));
+        }
+        return periods;
+    }
+
+    /**
+     * Returns the periods of the day that are in neither {@code eventPeriods} nor {@code taskPeriods}, by merging
+     * the two lists, which must be sorted by start, in a single pass.
+     */
+    private static List<Period> getFreePeriods(List<Period> eventPeriods, List<Period> taskPeriods) {
+        List<Period> freePeriods = new ArrayList<>();
+        int freeFrom = 0;
+        int i = 0;
+        int j = 0;
+        while (i < eventPeriods.size() || j < taskPeriods.size()) {
+            Period busy;
+            if (j == taskPeriods.size()
+                    || (i < eventPeriods.size() && eventPeriods.get(i).start <= taskPeriods.get(j).start)) {
+                busy = eventPeriods.get(i++);
+            } else {
+                busy = taskPeriods.get(j++);
+            }
+            if (busy.start > freeFrom) {
+                freePeriods.add(new Period(freeFrom, busy.start));
+            }
+            freeFrom = Math.max(freeFrom, busy.end);
+        }
+        if (freeFrom < MINUTES_PER_DAY) {
+            freePeriods.add(new Period(freeFrom, MINUTES_PER_DAY));
+        }
+        return freePeriods;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FreeSlotsCommand // instanceof handles nulls
+                && date.equals(((FreeSlotsCommand) other).date)); // state check
+    }
+
+    /**
+     * A period of a day, from its start up to but excluding its end, in minutes from midnight.
+     */
+    private static class Period {
+        private final int start;
+        private final int end;
+
+        Period(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%02d:%02d-%02d:%02d", start / 60, start % 60, end / 60, end % 60);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EVENTS;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.DateUtil;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.event.Date;
+
+/**
+ * Lists the events in the student planner: all of them, those on or between two dates, or the next few upcoming.
+ */
+public class ListEventCommand extends Command {
+
+    public static final String COMMAND_WORD = "listEvent";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all events, the events dated from the first "
+            + "date to the second date inclusive if either is given, or the next COUNT events from now or from the "
+            + "first date.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE] or "
+            + "[" + PREFIX_FROM + "DATE] "
+            + PREFIX_NEXT + "COUNT\n"
+            + "Examples: " + COMMAND_WORD + " " + PREFIX_FROM + "12/11/2018 " + PREFIX_TO + "18/11/2018, "
+            + COMMAND_WORD + " " + PREFIX_NEXT + "5";
+
+    public static final String MESSAGE_INVALID_RANGE = "The from/ date must not be after the to/ date.";
+
+    private final Optional<Date> startDate;
+    private final Optional<Date> endDate;
+    private final Optional<Integer> upcomingCount;
+    private final Clock clock;
+
+    /**
+     * Creates a ListEventCommand to list every event.
+     */
+    public ListEventCommand() {
+        this(Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Creates a ListEventCommand to list the events dated from {@code startDate} to {@code endDate} inclusive, where
+     * a missing date leaves that end of the range open.
+     */
+    public ListEventCommand(Optional<Date> startDate, Optional<Date> endDate) {
+        this(startDate, endDate, Optional.empty(), Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a ListEventCommand to list the first {@code count} events starting on or after {@code startDate}, or
+     * from the current time of {@code clock} if it is missing.
+     */
+    public ListEventCommand(Optional<Date> startDate, int count, Clock clock) {
+        this(startDate, Optional.empty(), Optional.of(count), clock);
+    }
+
+    private ListEventCommand(Optional<Date> startDate, Optional<Date> endDate, Optional<Integer> upcomingCount,
+                             Clock clock) {
+        requireAllNonNull(startDate, endDate, upcomingCount, clock);
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.upcomingCount = upcomingCount;
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        if (upcomingCount.isPresent()) {
+            long start = startDate.map(ListEventCommand::startOfDay).orElseGet(this::currentEpochMinute);
+            model.updateEventListToUpcoming(start, upcomingCount.get());
+        } else if (startDate.isPresent() || endDate.isPresent()) {
+            model.updateEventListTimeRange(startDate.map(ListEventCommand::startOfDay).orElse(Long.MIN_VALUE),
+                    endDate.map(date -> startOfDay(date) + MINUTES_PER_DAY - 1).orElse(Long.MAX_VALUE));
+        } else {
+            model.updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW, model.getFilteredEventList().size()));
+    }
+
+    private static long startOfDay(Date date) {
+        return date.toEpochDay() * MINUTES_PER_DAY;
+    }
+
+    private long currentEpochMinute() {
+        return DateUtil.toEpochMinute(LocalDateTime.now(clock));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListEventCommand // instanceof handles nulls
+                && startDate.equals(((ListEventCommand) other).startDate)
+                && endDate.equals(((ListEventCommand) other).endDate)
+                && upcomingCount.equals(((ListEventCommand) other).upcomingCount)); // state check
+    }
+}
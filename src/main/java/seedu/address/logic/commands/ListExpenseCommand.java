@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_EXPENSES;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.expense.ExpenseDate;
+
+/**
+ * Lists the expenses in the expense book, optionally only those dated between two dates inclusive.
+ */
+public class ListExpenseCommand extends Command {
+
+    public static final String COMMAND_WORD = "listExpense";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all expenses, or only those dated from the "
+            + "first date to the second date inclusive if either is given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM + "01/10/2018 "
+            + PREFIX_TO + "31/10/2018";
+
+    public static final String MESSAGE_INVALID_RANGE = "The from/ date must not be after the to/ date.";
+
+    private final Optional<ExpenseDate> startDate;
+    private final Optional<ExpenseDate> endDate;
+
+    /**
+     * Creates a ListExpenseCommand to list every expense.
+     */
+    public ListExpenseCommand() {
+        this(Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Creates a ListExpenseCommand to list the expenses from {@code startDate} to {@code endDate} inclusive, where a
+     * missing date leaves that end of the range open.
+     */
+    public ListExpenseCommand(Optional<ExpenseDate> startDate, Optional<ExpenseDate> endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        if (!startDate.isPresent() && !endDate.isPresent()) {
+            model.updateFilteredExpenseList(PREDICATE_SHOW_ALL_EXPENSES);
+        } else {
+            model.updateExpenseListDateRange(startDate.map(ExpenseDate::toEpochDay).orElse(Long.MIN_VALUE),
+                    endDate.map(ExpenseDate::toEpochDay).orElse(Long.MAX_VALUE));
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_EXPENSES_LISTED_OVERVIEW, model.getFilteredExpenseList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListExpenseCommand // instanceof handles nulls
+                && startDate.equals(((ListExpenseCommand) other).startDate)
+                && endDate.equals(((ListExpenseCommand) other).endDate)); // state check
+    }
+}
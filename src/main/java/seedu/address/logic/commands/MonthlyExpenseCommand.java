@@ -2,15 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
 import java.util.HashMap;
 
-import javafx.collections.ObservableList;
-
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.DisplayMonthlyExpenseEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.expense.Expense;
 
 /**
  * Display a new window for the expense of the selected month.
@@ -24,12 +25,19 @@ public class MonthlyExpenseCommand extends Command {
     public static final String MESSAGE_MONTHLY_EXPENSE_COMMAND_CONSTRAINTS =
             "Argument should be a valid month and in MM/YYYY format!";
 
-    private final String selectedMonth;
+    /** Reads and writes a month as exactly 2 digits of month and 4 digits of year, e.g. "03/2018". */
+    public static final DateTimeFormatter MONTH_FORMAT = new DateTimeFormatterBuilder()
+            .appendValue(ChronoField.MONTH_OF_YEAR, 2)
+            .appendLiteral('/')
+            .appendValue(ChronoField.YEAR, 4)
+            .toFormatter();
+
+    private final YearMonth selectedMonth;
 
     /**
      * Creates an MonthlyExpenseCommand to display the expense for the select month.
      */
-    public MonthlyExpenseCommand(String selectedMonth) {
+    public MonthlyExpenseCommand(YearMonth selectedMonth) {
         requireNonNull(selectedMonth);
         this.selectedMonth = selectedMonth;
     }
@@ -38,27 +46,27 @@ public class MonthlyExpenseCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
         requireNonNull(this.selectedMonth);
-        ObservableList<Expense> expenseList = model.getFilteredExpenseList();
-        HashMap<String, String> monthlyData = getMonthlyData(expenseList);
-        EventsCenter.getInstance().post(new DisplayMonthlyExpenseEvent(monthlyData, this.selectedMonth));
+        HashMap<String, Long> monthlyData = getMonthlyData(model);
+        EventsCenter.getInstance().post(
+                new DisplayMonthlyExpenseEvent(monthlyData, this.selectedMonth.format(MONTH_FORMAT)));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
-    private HashMap<String, String> getMonthlyData(ObservableList<Expense> expenseList) {
-        HashMap<String, String> monthlyData = new HashMap<>();
-
-        for (Expense expense : expenseList) {
-            if (expense.getExpenseDate().toString().contains(this.selectedMonth)) {
-                if (monthlyData.containsKey(expense.getExpenseCategory().toString())) {
-                    double storedValue = Double.parseDouble(monthlyData.get(expense.getExpenseCategory().toString()));
-                    double expenseValue = Double.parseDouble(expense.getExpenseValue().toString());
-                    String newValue = Double.toString(storedValue + expenseValue);
-                    monthlyData.put(expense.getExpenseCategory().toString(), newValue);
-                } else {
-                    monthlyData.put(expense.getExpenseCategory().toString(), expense.getExpenseValue().toString());
-                }
-            }
-        }
+    /**
+     * Returns the total value in cents of each category of expenses in the selected month, read from the model's
+     * running totals.
+     */
+    private HashMap<String, Long> getMonthlyData(Model model) {
+        HashMap<String, Long> monthlyData = new HashMap<>();
+        model.getExpenseTotalsByCategory(this.selectedMonth)
+                .forEach((category, cents) -> monthlyData.put(category.toString(), cents));
         return monthlyData;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MonthlyExpenseCommand // instanceof handles nulls
+                && selectedMonth.equals(((MonthlyExpenseCommand) other).selectedMonth)); // state check
+    }
 }
@@ -10,11 +10,14 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.commands.AddExpenseCommand;
 import seedu.address.logic.commands.AddTaskCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearEventCommand;
 import seedu.address.logic.commands.ClearExpenseCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ContactsOfCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteEventCommand;
 import seedu.address.logic.commands.DeleteExpenseCommand;
@@ -22,15 +25,21 @@ import seedu.address.logic.commands.DeleteTaskCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditEventCommand;
 import seedu.address.logic.commands.EditExpenseCommand;
+import seedu.address.logic.commands.EventsOfCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExpenseTrendCommand;
 import seedu.address.logic.commands.FindAddressCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFuzzyCommand;
 import seedu.address.logic.commands.FindNameCommand;
 import seedu.address.logic.commands.FindPhoneCommand;
+import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.commands.ListExpenseCommand;
 import seedu.address.logic.commands.ListTaskCommand;
 import seedu.address.logic.commands.MonthlyExpenseCommand;
 import seedu.address.logic.commands.RedoCommand;
@@ -90,12 +99,18 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FindFuzzyCommand.COMMAND_WORD:
+            return new FindFuzzyCommandParser().parse(arguments);
+
         case FindNameCommand.COMMAND_WORD:
             return new FindNameCommandParser().parse(arguments);
 
         case FindPhoneCommand.COMMAND_WORD:
             return new FindPhoneCommandParser().parse(arguments);
 
+        case FindTagCommand.COMMAND_WORD:
+            return new FindTagCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -105,6 +120,9 @@ public class AddressBookParser {
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
+        case AgendaCommand.COMMAND_WORD:
+            return new AgendaCommand();
+
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
@@ -143,12 +161,27 @@ public class AddressBookParser {
         case ClearEventCommand.COMMAND_WORD:
             return new ClearEventCommand();
 
+        case ConflictsCommand.COMMAND_WORD:
+            return new ConflictsCommand();
+
+        case ContactsOfCommand.COMMAND_WORD:
+            return new ContactsOfCommandParser().parse(arguments);
+
         case DeleteEventCommand.COMMAND_WORD:
             return new DeleteEventCommandParser().parse(arguments);
 
         case EditEventCommand.COMMAND_WORD:
             return new EditEventCommandParser().parse(arguments);
 
+        case EventsOfCommand.COMMAND_WORD:
+            return new EventsOfCommandParser().parse(arguments);
+
+        case FreeSlotsCommand.COMMAND_WORD:
+            return new FreeSlotsCommandParser().parse(arguments);
+
+        case ListEventCommand.COMMAND_WORD:
+            return new ListEventCommandParser().parse(arguments);
+
         //@@author
 
         //@@author ChenSongJian
@@ -167,6 +200,9 @@ public class AddressBookParser {
         case ExpenseTrendCommand.COMMAND_WORD:
             return new ExpenseTrendCommand();
 
+        case ListExpenseCommand.COMMAND_WORD:
+            return new ListExpenseCommandParser().parse(arguments);
+
         case MonthlyExpenseCommand.COMMAND_WORD:
             return new MonthlyExpenseCommandParser().parse(arguments);
 
@@ -25,4 +25,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_EXPENSE_DATE = new Prefix("d/");
     public static final Prefix PREFIX_EXPENSE_VALUE = new Prefix("v/");
     //@@author
+
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_NEXT = new Prefix("next/");
 }
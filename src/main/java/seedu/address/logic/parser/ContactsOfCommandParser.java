@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ContactsOfCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ContactsOfCommand object
+ */
+public class ContactsOfCommandParser implements Parser<ContactsOfCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ContactsOfCommand
+     * and returns a ContactsOfCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ContactsOfCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new ContactsOfCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ContactsOfCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.EventsOfCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new EventsOfCommand object
+ */
+public class EventsOfCommandParser implements Parser<EventsOfCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EventsOfCommand
+     * and returns an EventsOfCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EventsOfCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new EventsOfCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, EventsOfCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
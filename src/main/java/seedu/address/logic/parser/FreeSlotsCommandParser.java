@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.Date;
+
+/**
+ * Parses input arguments and creates a new FreeSlotsCommand object
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotsCommand
+     * and returns a FreeSlotsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+        if (!Date.isValidDate(trimmedArgs)) {
+            throw new ParseException(Date.MESSAGE_EVENT_DATE_CONSTRAINTS);
+        }
+        return new FreeSlotsCommand(new Date(trimmedArgs));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NEXT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.Date;
+
+/**
+ * Parses input arguments and creates a new ListEventCommand object
+ */
+public class ListEventCommandParser implements Parser<ListEventCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListEventCommand
+     * and returns a ListEventCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListEventCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO, PREFIX_NEXT);
+
+        if (!argMultimap.getPreamble().isEmpty()
+                || (argMultimap.getValue(PREFIX_NEXT).isPresent() && argMultimap.getValue(PREFIX_TO).isPresent())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventCommand.MESSAGE_USAGE));
+        }
+
+        Optional<Date> startDate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            startDate = Optional.of(ParserUtil.parseEventDate(argMultimap.getValue(PREFIX_FROM).get()));
+        }
+
+        if (argMultimap.getValue(PREFIX_NEXT).isPresent()) {
+            String count = argMultimap.getValue(PREFIX_NEXT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(count)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        ListEventCommand.MESSAGE_USAGE));
+            }
+            return new ListEventCommand(startDate, Integer.parseInt(count), Clock.systemDefaultZone());
+        }
+
+        Optional<Date> endDate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            endDate = Optional.of(ParserUtil.parseEventDate(argMultimap.getValue(PREFIX_TO).get()));
+        }
+        if (startDate.isPresent() && endDate.isPresent()
+                && startDate.get().toEpochDay() > endDate.get().toEpochDay()) {
+            throw new ParseException(ListEventCommand.MESSAGE_INVALID_RANGE);
+        }
+        return new ListEventCommand(startDate, endDate);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.ListExpenseCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.expense.ExpenseDate;
+
+/**
+ * Parses input arguments and creates a new ListExpenseCommand object
+ */
+public class ListExpenseCommandParser implements Parser<ListExpenseCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListExpenseCommand
+     * and returns a ListExpenseCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListExpenseCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListExpenseCommand.MESSAGE_USAGE));
+        }
+
+        Optional<ExpenseDate> startDate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_FROM).isPresent()) {
+            startDate = Optional.of(ParserUtil.parseExpenseDate(argMultimap.getValue(PREFIX_FROM).get()));
+        }
+        Optional<ExpenseDate> endDate = Optional.empty();
+        if (argMultimap.getValue(PREFIX_TO).isPresent()) {
+            endDate = Optional.of(ParserUtil.parseExpenseDate(argMultimap.getValue(PREFIX_TO).get()));
+        }
+
+        if (startDate.isPresent() && endDate.isPresent()
+                && startDate.get().toEpochDay() > endDate.get().toEpochDay()) {
+            throw new ParseException(ListExpenseCommand.MESSAGE_INVALID_RANGE);
+        }
+        return new ListExpenseCommand(startDate, endDate);
+    }
+}
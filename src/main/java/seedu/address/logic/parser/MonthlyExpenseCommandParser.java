@@ -2,39 +2,29 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 
 import seedu.address.logic.commands.MonthlyExpenseCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new MonthlyExpenseCommand object
  */
-public class MonthlyExpenseCommandParser {
+public class MonthlyExpenseCommandParser implements Parser<MonthlyExpenseCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the MonthlyExpenseCommand
      * and returns an MonthlyExpenseCommand object for execution.
-     * @throws java.text.ParseException if the user input does not conform the expected format
+     * @throws ParseException if the user input does not conform the expected format
      */
-    public MonthlyExpenseCommand parse(String args) throws seedu.address.logic.parser.exceptions.ParseException {
-        args = args.trim();
-        String pattern = "MM/yyyy";
-        if (args.length() != pattern.length()) {
-            throw new seedu.address.logic.parser.exceptions.ParseException(String.format(
-                    MESSAGE_INVALID_COMMAND_FORMAT,
-                    MonthlyExpenseCommand.MESSAGE_MONTHLY_EXPENSE_COMMAND_CONSTRAINTS
-            ));
-        }
-        DateFormat dateFormat = new SimpleDateFormat (pattern);
-        dateFormat.setLenient(false);
+    public MonthlyExpenseCommand parse(String args) throws ParseException {
         try {
-            dateFormat.parse(args);
-        } catch (java.text.ParseException pe) {
-            throw new seedu.address.logic.parser.exceptions.ParseException(String.format(
+            return new MonthlyExpenseCommand(YearMonth.parse(args.trim(), MonthlyExpenseCommand.MONTH_FORMAT));
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(String.format(
                     MESSAGE_INVALID_COMMAND_FORMAT,
                     MonthlyExpenseCommand.MESSAGE_MONTHLY_EXPENSE_COMMAND_CONSTRAINTS
-            ));
+            ), dtpe);
         }
-        return new MonthlyExpenseCommand(args);
     }
 }
@@ -123,7 +123,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -285,7 +285,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedEventContacts)) {
             throw new ParseException(EventContacts.MESSAGE_EVENT_CONTACTS_CONSTRAINTS);
         }
-        return new EventContacts(trimmedEventContacts);
+        return EventContacts.of(trimmedEventContacts);
     }
 
     /**
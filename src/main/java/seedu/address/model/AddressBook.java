@@ -74,6 +74,35 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person at position {@code index} of the address book.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the address book, or -1 if there is none.
+     */
+    int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the persons in the address book whose phone number is {@code phone}.
+     */
+    public List<Person> getPersonsWithPhone(String phone) {
+        return persons.findByPhone(phone);
+    }
+
+    /**
+     * Returns the persons in the address book whose phone number starts with {@code prefix}.
+     */
+    public List<Person> getPersonsWithPhonePrefix(String prefix) {
+        return persons.findByPhonePrefix(prefix);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -61,6 +61,20 @@ public class EventBook implements ReadOnlyEventBook {
         events.add(e);
     }
 
+    /**
+     * Inserts an event at position {@code index} of the event book.
+     */
+    void addEvent(int index, Event e) {
+        events.add(index, e);
+    }
+
+    /**
+     * Returns the position of the event equal to {@code event} in the event book, or -1 if there is none.
+     */
+    int indexOfEvent(Event event) {
+        return events.indexOf(event);
+    }
+
     /**
      * Replaces the given event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the event book.
@@ -70,6 +84,14 @@ public class EventBook implements ReadOnlyEventBook {
         events.setEvent(target, editedEvent);
     }
 
+    /**
+     * Replaces the event at position {@code index} of the event book with {@code editedEvent}.
+     */
+    void updateEvent(int index, Event editedEvent) {
+        requireNonNull(editedEvent);
+        events.setEvent(index, editedEvent);
+    }
+
     /**
      * Removes {@code key} from this {@code EventBook}.
      * {@code key} must exist in the event book.
@@ -78,6 +100,13 @@ public class EventBook implements ReadOnlyEventBook {
         events.remove(key);
     }
 
+    /**
+     * Removes the event at position {@code index} of the event book.
+     */
+    void removeEvent(int index) {
+        events.remove(index);
+    }
+
     //// util methods
 
     @Override
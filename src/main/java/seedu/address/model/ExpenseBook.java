@@ -77,6 +77,13 @@ public class ExpenseBook implements ReadOnlyExpenseBook {
         expenses.remove(key);
     }
 
+    /**
+     * Returns the position of the expense equal to {@code expense} in the expense book, or -1 if there is none.
+     */
+    int indexOfExpense(Expense expense) {
+        return expenses.indexOf(expense);
+    }
+
     //// util methods
 
     @Override
@@ -1,11 +1,21 @@
 package seedu.address.model;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.agenda.AgendaItem;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventClash;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseCategory;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 
 /**
@@ -73,10 +83,18 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The filtered person list is shown in the address book's own order again.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the order in which the filtered person list is shown to the given {@code comparator}, until the filter
+     * is next updated. Only the view is reordered; the address book itself is left unchanged.
+     * A null {@code comparator} shows persons in the address book's own order.
+     */
+    void updateSortedPersonList(Comparator<Person> comparator);
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -167,6 +185,12 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
+
+    /**
+     * Returns the tasks in the task book that are under way on the day and month of {@code date}, from their start
+     * to their end, earliest start first.
+     */
+    List<Task> getTasksOn(LocalDate date);
     //@@author
 
     //@@author ian-tjahjono
@@ -209,6 +233,47 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredEventList(Predicate<Event> predicate);
+
+    /**
+     * Limits the filtered event list to the events starting from {@code startEpochMinute} to {@code endEpochMinute}
+     * inclusive, counted in minutes since 1970-01-01 00:00, and shows them earliest first.
+     */
+    void updateEventListTimeRange(long startEpochMinute, long endEpochMinute);
+
+    /**
+     * Limits the filtered event list to the first {@code count} events starting at or after
+     * {@code startEpochMinute}, and shows them earliest first.
+     */
+    void updateEventListToUpcoming(long startEpochMinute, int count);
+
+    /**
+     * Returns the events in the event book, other than {@code event} itself, that take place at the same time as
+     * {@code event}, earliest first.
+     */
+    List<Event> getClashingEvents(Event event);
+
+    /**
+     * Returns the events in the event book starting from {@code startEpochMinute} to {@code endEpochMinute}
+     * inclusive, earliest first.
+     */
+    List<Event> getEventsBetween(long startEpochMinute, long endEpochMinute);
+
+    /**
+     * Returns every pair of events in the event book that take place at the same time.
+     */
+    List<EventClash> getEventClashes();
+
+    /**
+     * Returns the events in the event book that have {@code person} as a contact, looked up in the event contact
+     * index, and compared by identity in the returned set.
+     */
+    Set<Event> getEventsOf(Person person);
+
+    /**
+     * Returns the persons in the address book who are contacts of {@code event}, looked up in the event contact
+     * index, and compared by identity in the returned set.
+     */
+    Set<Person> getContactsOf(Event event);
     //@@author
 
     //@@author ChenSongJian
@@ -232,15 +297,34 @@ public interface Model {
      */
     void updateExpense(Expense target, Expense editedExpense);
 
+    /**
+     * Returns the total in cents of each category of expenses in {@code month}, from the running totals of the
+     * expense book. Only categories with expenses in that month are included.
+     */
+    Map<ExpenseCategory, Long> getExpenseTotalsByCategory(YearMonth month);
+
+    /**
+     * Returns the total in cents of the expenses in {@code month}, from the running totals of the expense book.
+     */
+    long getExpenseTotal(YearMonth month);
+
     /** Returns an unmodifiable view of the filtered expense list */
     ObservableList<Expense> getFilteredExpenseList();
 
     /**
      * Updates the filter of the filtered expense list to filter by the given {@code predicate}.
+     * The filter applies to the whole expense book again, even if the list was limited to a date range.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredExpenseList(Predicate<Expense> predicate);
 
+    /**
+     * Limits the filtered expense list to all the expenses dated from {@code startEpochDay} to {@code endEpochDay}
+     * inclusive, counted in days since 1970-01-01. The range is found by binary search over the expense book, which
+     * is sorted by date, so expenses outside it are not looked at.
+     */
+    void updateExpenseListDateRange(long startEpochDay, long endEpochDay);
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -266,5 +350,52 @@ public interface Model {
      */
     void commitExpenseBook();
     //@@author
-}
 
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The persons are looked up in the name word index, and compared by identity in the returned set.
+     */
+    Set<Person> findPersonsByName(List<String> keywords);
+
+    /**
+     * Returns the persons whose name contains a word within a few typos of any of {@code keywords}, ignoring case,
+     * each mapped to the least number of edits between such a word and a keyword.
+     * The persons are found through the trigrams of the name words, and compared by identity in the returned map.
+     */
+    Map<Person, Integer> findPersonsByNameFuzzy(List<String> keywords);
+
+    /**
+     * Returns the persons whose address contains any of {@code keywords} as a whole word, ignoring case.
+     * The persons are looked up in the address word index, and compared by identity in the returned set.
+     */
+    Set<Person> findPersonsByAddress(List<String> keywords);
+
+    /**
+     * Returns the persons whose phone number is any of {@code keywords}, or starts with the rest of a keyword that
+     * ends with {@link seedu.address.model.person.PhoneContainsKeywordsPredicate#PREFIX_WILDCARD}.
+     * The persons are looked up in the address book's phone number order, and compared by identity in the returned
+     * set.
+     */
+    Set<Person> findPersonsByPhone(List<String> keywords);
+
+    /**
+     * Returns the persons tagged {@code tag}, looked up in the tag index, as a set that compares them by identity.
+     */
+    Set<Person> getPersonsTagged(Tag tag);
+
+    /**
+     * Returns the tasks tagged {@code tag}, looked up in the tag index, as a set that compares them by identity.
+     */
+    Set<Task> getTasksTagged(Tag tag);
+
+    /**
+     * Returns the expenses tagged {@code tag}, looked up in the tag index, as a set that compares them by identity.
+     */
+    Set<Expense> getExpensesTagged(Tag tag);
+
+    /**
+     * Returns an unmodifiable view of the agenda, which lists the tasks, events and expenses together, earliest
+     * first. The rows are merged from the books only as they are read.
+     */
+    ObservableList<AgendaItem> getAgenda();
+}
@@ -2,10 +2,21 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -13,6 +24,7 @@ import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.util.Duration;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
@@ -32,10 +44,26 @@ import seedu.address.commons.events.model.UserPrefsChangedEvent;
 import seedu.address.commons.events.storage.OnlineBackupSuccessResultEvent;
 import seedu.address.commons.events.ui.NewNotificationAvailableEvent;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.agenda.AgendaItem;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventClash;
+import seedu.address.model.event.EventTimeIndex;
+import seedu.address.model.eventContacts.EventContactIndex;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseCategory;
+import seedu.address.model.expense.ExpenseTotals;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.DateTime;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskTimeIndex;
+import seedu.address.model.util.FuzzyWordIndex;
+import seedu.address.model.util.InvertedIndex;
+import seedu.address.model.util.LazyMergedList;
+import seedu.address.model.util.SortedRangeView;
+import seedu.address.model.util.SwitchableListView;
 import seedu.address.storage.OnlineStorage;
 
 /**
@@ -49,11 +77,26 @@ public class ModelManager extends ComponentManager implements Model {
     private final VersionedEventBook versionedEventBook;
     private final VersionedExpenseBook versionedExpenseBook;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Event> filteredEvents;
+    private final SortedRangeView<Event> eventsInTimeRange;
+    private final SwitchableListView<Event> shownEvents;
+    private final SortedRangeView<Expense> expensesInDateRange;
     private final FilteredList<Expense> filteredExpenses;
     private final UserPrefs userPrefs;
     private final VersionedTaskBook versionedTaskBook;
     private final FilteredList<Task> filteredTasks;
+    private final FuzzyWordIndex<Person> personNameIndex;
+    private final InvertedIndex<String, Person> personAddressIndex;
+    private final InvertedIndex<Tag, Person> personTagIndex;
+    private final InvertedIndex<Tag, Task> taskTagIndex;
+    private final TaskTimeIndex taskTimeIndex;
+    private final InvertedIndex<Tag, Expense> expenseTagIndex;
+    private final ExpenseTotals expenseTotals;
+    private final EventTimeIndex eventTimeIndex;
+    private final EventContactIndex eventContactIndex;
+    private final SortedList<Task> tasksByDeadline;
+    private final LazyMergedList<AgendaItem> agenda;
 
 
     private int restoreCounter = 0;
@@ -68,14 +111,36 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
-        versionedEventBook = new VersionedEventBook(eventBook);
-        versionedExpenseBook = new VersionedExpenseBook(expenseBook);
-        versionedTaskBook = new VersionedTaskBook(taskBook);
+        int maxStates = userPrefs.getUndoHistoryMaxStates();
+        long maxBytes = userPrefs.getUndoHistoryMaxBytes();
+        versionedAddressBook = new VersionedAddressBook(addressBook, maxStates, maxBytes);
+        versionedEventBook = new VersionedEventBook(eventBook, maxStates, maxBytes);
+        versionedExpenseBook = new VersionedExpenseBook(expenseBook, maxStates, maxBytes);
+        versionedTaskBook = new VersionedTaskBook(taskBook, maxStates, maxBytes);
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredEvents = new FilteredList<>(versionedEventBook.getEventList());
-        filteredExpenses = new FilteredList<>(versionedExpenseBook.getExpenseList());
+        eventsInTimeRange = new SortedRangeView<>(new SortedList<>(versionedEventBook.getEventList(),
+            Comparator.comparingLong(Event::toEpochMinute)));
+        shownEvents = new SwitchableListView<>(filteredEvents);
+        expensesInDateRange = new SortedRangeView<>(versionedExpenseBook.getExpenseList());
+        filteredExpenses = new FilteredList<>(expensesInDateRange);
         filteredTasks = new FilteredList<>(versionedTaskBook.getTaskList());
+        personNameIndex = new FuzzyWordIndex<>(versionedAddressBook.getPersonList(),
+            person -> person.getName().getFoldedWords());
+        personAddressIndex = new InvertedIndex<>(versionedAddressBook.getPersonList(),
+            person -> person.getAddress().getFoldedWords());
+        personTagIndex = new InvertedIndex<>(versionedAddressBook.getPersonList(), Person::getTags);
+        taskTagIndex = new InvertedIndex<>(versionedTaskBook.getTaskList(), Task::getTags);
+        taskTimeIndex = new TaskTimeIndex(versionedTaskBook.getTaskList());
+        expenseTagIndex = new InvertedIndex<>(versionedExpenseBook.getExpenseList(), Expense::getTags);
+        expenseTotals = new ExpenseTotals(versionedExpenseBook.getExpenseList());
+        eventTimeIndex = new EventTimeIndex(versionedEventBook.getEventList());
+        eventContactIndex = new EventContactIndex(versionedEventBook.getEventList(),
+            versionedAddressBook.getPersonList());
+        tasksByDeadline = new SortedList<>(versionedTaskBook.getTaskList(),
+            Comparator.comparingInt(task -> task.getEndDateTime().getMinuteOfYear()));
+        agenda = createAgenda();
         this.userPrefs = userPrefs;
     }
 
@@ -83,6 +148,26 @@ public class ModelManager extends ComponentManager implements Model {
         this(new AddressBook(), new ExpenseBook(), new EventBook(), new TaskBook(), new UserPrefs());
     }
 
+    /**
+     * Creates the agenda, which merges the tasks by deadline, the events from the time index and the expenses of
+     * the expense book, kept latest first, read from the end.
+     * Tasks do not record a year, so they are listed in the year the agenda is read in.
+     */
+    private LazyMergedList<AgendaItem> createAgenda() {
+        LazyMergedList<AgendaItem> mergedItems =
+                new LazyMergedList<>(Comparator.comparingLong(AgendaItem::getEpochMinute));
+        mergedItems.addSource(tasksByDeadline, () -> {
+            int year = LocalDate.now().getYear();
+            return tasksByDeadline.stream().map(task -> AgendaItem.ofTask(task, year)).iterator();
+        });
+        mergedItems.addSource(versionedEventBook.getEventList(), () -> eventTimeIndex.stream()
+                .map(AgendaItem::ofEvent).iterator());
+        ObservableList<Expense> expenses = versionedExpenseBook.getExpenseList();
+        mergedItems.addSource(expenses, () -> IntStream.range(0, expenses.size())
+                .mapToObj(i -> AgendaItem.ofExpense(expenses.get(expenses.size() - 1 - i))).iterator());
+        return mergedItems;
+    }
+
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         versionedAddressBook.resetData(newData);
@@ -160,17 +245,23 @@ public class ModelManager extends ComponentManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, filtered and then sorted for display.
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(sortedPersons);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateSortedPersonList(Comparator<Person> comparator) {
+        sortedPersons.setComparator(comparator);
     }
 
     //=========== Undo/Redo =================================================================================
@@ -200,6 +291,19 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void commitAddressBook() {
         versionedAddressBook.commit();
+        logUndoHistorySize();
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by the undo histories of all the books.
+     */
+    public long getEstimatedUndoHistoryBytes() {
+        return versionedAddressBook.getEstimatedHistoryBytes() + versionedEventBook.getEstimatedHistoryBytes()
+                + versionedExpenseBook.getEstimatedHistoryBytes() + versionedTaskBook.getEstimatedHistoryBytes();
+    }
+
+    private void logUndoHistorySize() {
+        logger.fine("Undo history now takes about " + getEstimatedUndoHistoryBytes() + " bytes");
     }
 
     //@@author QzSG
@@ -421,17 +525,19 @@ public class ModelManager extends ComponentManager implements Model {
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
         filteredTasks.setPredicate(predicate);
-        sortedTaskList(filteredTasks);
     }
 
-    private void sortedTaskList(FilteredList<Task> filteredTasks) {
-        versionedTaskBook.sort();
-        indicateTaskBookChanged();
+    @Override
+    public List<Task> getTasksOn(LocalDate date) {
+        requireNonNull(date);
+        int dayStart = DateTime.toDayOfYear(date) * MINUTES_PER_DAY;
+        return taskTimeIndex.getTasksDuring(dayStart, dayStart + MINUTES_PER_DAY);
     }
 
     @Override
     public void commitTaskBook() {
         versionedTaskBook.commit();
+        logUndoHistorySize();
     }
 
     //@@author
@@ -453,6 +559,48 @@ public class ModelManager extends ComponentManager implements Model {
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
         filteredEvents.setPredicate(predicate);
+        shownEvents.show(filteredEvents);
+    }
+
+    @Override
+    public void updateEventListTimeRange(long startEpochMinute, long endEpochMinute) {
+        eventsInTimeRange.setRange(event -> event.toEpochMinute() < startEpochMinute,
+            event -> event.toEpochMinute() > endEpochMinute);
+        shownEvents.show(eventsInTimeRange);
+    }
+
+    @Override
+    public void updateEventListToUpcoming(long startEpochMinute, int count) {
+        eventsInTimeRange.setRange(event -> event.toEpochMinute() < startEpochMinute, count);
+        shownEvents.show(eventsInTimeRange);
+    }
+
+    @Override
+    public List<Event> getClashingEvents(Event event) {
+        requireNonNull(event);
+        return eventTimeIndex.getClashesWith(event);
+    }
+
+    @Override
+    public List<Event> getEventsBetween(long startEpochMinute, long endEpochMinute) {
+        return eventTimeIndex.getEventsBetween(startEpochMinute, endEpochMinute);
+    }
+
+    @Override
+    public List<EventClash> getEventClashes() {
+        return eventTimeIndex.getClashes();
+    }
+
+    @Override
+    public Set<Event> getEventsOf(Person person) {
+        requireNonNull(person);
+        return eventContactIndex.getEventsOf(person);
+    }
+
+    @Override
+    public Set<Person> getContactsOf(Event event) {
+        requireNonNull(event);
+        return eventContactIndex.getContactsOf(event);
     }
 
     @Override
@@ -478,12 +626,13 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public ObservableList<Event> getFilteredEventList() {
-        return FXCollections.unmodifiableObservableList(filteredEvents);
+        return FXCollections.unmodifiableObservableList(shownEvents);
     }
 
     @Override
     public void commitEventBook() {
         versionedEventBook.commit();
+        logUndoHistorySize();
     }
 
 
@@ -514,7 +663,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
-                && filteredPersons.equals(other.filteredPersons);
+                && sortedPersons.equals(other.sortedPersons);
     }
     //@@author
 
@@ -560,6 +709,16 @@ public class ModelManager extends ComponentManager implements Model {
         indicateExpenseBookChanged();
     }
 
+    @Override
+    public Map<ExpenseCategory, Long> getExpenseTotalsByCategory(YearMonth month) {
+        return expenseTotals.getTotalsByCategory(month);
+    }
+
+    @Override
+    public long getExpenseTotal(YearMonth month) {
+        return expenseTotals.getTotal(month);
+    }
+
     /**
      * Returns an unmodifiable view of the list of {@code Expense} backed by the internal list of
      * {@code versionedExpenseBook}
@@ -572,9 +731,18 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredExpenseList(Predicate<Expense> predicate) {
         requireNonNull(predicate);
+        expensesInDateRange.clearRange();
         filteredExpenses.setPredicate(predicate);
     }
 
+    @Override
+    public void updateExpenseListDateRange(long startEpochDay, long endEpochDay) {
+        // expenses are sorted from the latest date to the earliest
+        expensesInDateRange.setRange(expense -> expense.getExpenseDate().toEpochDay() > endEpochDay,
+            expense -> expense.getExpenseDate().toEpochDay() < startEpochDay);
+        filteredExpenses.setPredicate(PREDICATE_SHOW_ALL_EXPENSES);
+    }
+
     @Override
     public boolean canUndoExpenseBook() {
         return versionedExpenseBook.canUndo();
@@ -600,6 +768,73 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void commitExpenseBook() {
         versionedExpenseBook.commit();
+        logUndoHistorySize();
     }
     //@@author
+
+    //=========== Indexes ====================================================================================
+
+    @Override
+    public Set<Person> findPersonsByName(List<String> keywords) {
+        requireNonNull(keywords);
+        return personNameIndex.getAny(foldCase(keywords));
+    }
+
+    @Override
+    public Map<Person, Integer> findPersonsByNameFuzzy(List<String> keywords) {
+        requireNonNull(keywords);
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (String keyword : foldCase(keywords)) {
+            personNameIndex.findSimilar(keyword).forEach((word, distance) -> personNameIndex.get(word)
+                    .forEach(person -> distances.merge(person, distance, Math::min)));
+        }
+        return distances;
+    }
+
+    @Override
+    public Set<Person> findPersonsByAddress(List<String> keywords) {
+        requireNonNull(keywords);
+        return personAddressIndex.getAny(foldCase(keywords));
+    }
+
+    @Override
+    public Set<Person> findPersonsByPhone(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            persons.addAll(PhoneContainsKeywordsPredicate.isPrefixKeyword(keyword)
+                    ? versionedAddressBook.getPersonsWithPhonePrefix(PhoneContainsKeywordsPredicate.getPrefix(keyword))
+                    : versionedAddressBook.getPersonsWithPhone(keyword));
+        }
+        return persons;
+    }
+
+    private static List<String> foldCase(List<String> keywords) {
+        return keywords.stream().map(StringUtil::foldCase).collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<Person> getPersonsTagged(Tag tag) {
+        requireNonNull(tag);
+        return personTagIndex.getAny(Collections.singletonList(tag));
+    }
+
+    @Override
+    public Set<Task> getTasksTagged(Tag tag) {
+        requireNonNull(tag);
+        return taskTagIndex.getAny(Collections.singletonList(tag));
+    }
+
+    @Override
+    public Set<Expense> getExpensesTagged(Tag tag) {
+        requireNonNull(tag);
+        return expenseTagIndex.getAny(Collections.singletonList(tag));
+    }
+
+    //=========== Agenda =====================================================================================
+
+    @Override
+    public ObservableList<AgendaItem> getAgenda() {
+        return FXCollections.unmodifiableObservableList(agenda);
+    }
 }
@@ -73,10 +73,6 @@ public class TaskBook implements ReadOnlyTaskBook {
         tasks.setTask(target, updatedTask);
     }
 
-    public void sort() {
-        tasks.sort();
-    }
-
     /**
      * Removes {@code key} from this {@code TaskBook}.
      * {@code key} must exist in the task book.
@@ -85,6 +81,13 @@ public class TaskBook implements ReadOnlyTaskBook {
         tasks.remove(key);
     }
 
+    /**
+     * Returns the position of the task equal to {@code task} in the task book, or -1 if there is none.
+     */
+    int indexOfTask(Task task) {
+        return tasks.indexOf(task);
+    }
+
     //// util methods
 
     @Override
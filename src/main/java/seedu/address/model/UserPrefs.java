@@ -12,6 +12,9 @@ import seedu.address.commons.util.FileUtil;
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_MAX_STATES = 100;
+    public static final long DEFAULT_UNDO_HISTORY_MAX_BYTES = 4L * 1024 * 1024;
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath;
     private Path addressBookBackupFilePath;
@@ -29,6 +32,8 @@ public class UserPrefs {
     private Path taskBookBackupFilePath;
     private String taskBookGistId;
 
+    private int undoHistoryMaxStates = DEFAULT_UNDO_HISTORY_MAX_STATES;
+    private long undoHistoryMaxBytes = DEFAULT_UNDO_HISTORY_MAX_BYTES;
 
     public UserPrefs() {
         setGuiSettings(1000, 500, 0, 0);
@@ -115,6 +120,28 @@ public class UserPrefs {
         this.taskBookGistId = taskBookGistId;
     }
 
+    /**
+     * Returns the maximum number of states each book keeps to undo to.
+     */
+    public int getUndoHistoryMaxStates() {
+        return undoHistoryMaxStates;
+    }
+
+    public void setUndoHistoryMaxStates(int undoHistoryMaxStates) {
+        this.undoHistoryMaxStates = undoHistoryMaxStates;
+    }
+
+    /**
+     * Returns the estimated number of bytes the undo history of each book may take.
+     */
+    public long getUndoHistoryMaxBytes() {
+        return undoHistoryMaxBytes;
+    }
+
+    public void setUndoHistoryMaxBytes(long undoHistoryMaxBytes) {
+        this.undoHistoryMaxBytes = undoHistoryMaxBytes;
+    }
+
     /**
      * Helper method to check if any of the Gist Ids for the books data is null
      * @return True if any of the Gist Ids for the books data is null
@@ -1,36 +1,79 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.EditHistory;
+import seedu.address.model.util.ListEdit;
+
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * Each state is kept as the edits that lead to it from the previous state, so committing only stores what changed
+ * and undo or redo only replays those edits. The persons themselves are immutable and shared by every state.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
-    private int currentStatePointer;
+    private final EditHistory<Person> history;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
-        super(initialState);
+        this(initialState, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} that keeps at most {@code maxStates} states to undo to, in an estimated
+     * {@code maxBytes}. The oldest states are forgotten first.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxStates, long maxBytes) {
+        requireNonNull(initialState);
+        history = new EditHistory<>(edit -> apply(this, edit), maxStates, maxBytes);
+        super.setPersons(initialState.getPersonList());
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        ListEdit<Person> edit = ListEdit.replacementOfAll(getPersonList(), persons);
+        super.setPersons(persons);
+        history.record(edit);
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        int index = getPersonList().size();
+        super.addPerson(p);
+        history.record(ListEdit.insertion(index, p));
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        int index = indexOfPerson(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Person stored = getPersonList().get(index);
+        super.updatePerson(target, editedPerson);
+        history.record(ListEdit.replacement(index, stored, editedPerson));
+    }
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        Person stored = getPersonList().get(index);
+        super.removePerson(key);
+        history.record(ListEdit.removal(index, stored));
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
+     * Saves the current {@code AddressBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        history.commit();
     }
 
     /**
@@ -40,8 +83,7 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
@@ -51,22 +93,52 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        history.redo();
     }
 
     /**
      * Returns true if {@code undo()} has address book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by the undo history.
+     */
+    public long getEstimatedHistoryBytes() {
+        return history.getEstimatedBytes();
+    }
+
+    /**
+     * Returns every committed state in the history, oldest first.
+     */
+    private List<AddressBook> getStates() {
+        return history.rebuildStates(this, AddressBook::new, VersionedAddressBook::apply);
+    }
+
+    /**
+     * Applies {@code edit} to the person list of {@code addressBook}.
+     */
+    private static void apply(AddressBook addressBook, ListEdit<Person> edit) {
+        List<Person> removed = edit.getRemoved();
+        List<Person> added = edit.getAdded();
+        if (removed.size() > 1 || added.size() > 1) {
+            addressBook.setPersons(added);
+        } else if (removed.isEmpty() && !added.isEmpty()) {
+            addressBook.addPerson(edit.getIndex(), added.get(0));
+        } else if (!removed.isEmpty() && added.isEmpty()) {
+            addressBook.removePerson(removed.get(0));
+        } else if (!removed.isEmpty()) {
+            addressBook.updatePerson(removed.get(0), added.get(0));
+        }
     }
 
     @Override
@@ -85,8 +157,8 @@ public class VersionedAddressBook extends AddressBook {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-                && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
-                && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
+                && getStates().equals(otherVersionedAddressBook.getStates())
+                && history.getCurrentStatePointer() == otherVersionedAddressBook.history.getCurrentStatePointer();
     }
 
     /**
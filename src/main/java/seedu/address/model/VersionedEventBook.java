@@ -1,36 +1,80 @@
 //@@author ian-tjahjono
 package seedu.address.model;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.util.EditHistory;
+import seedu.address.model.util.ListEdit;
+
 /**
  * {@code EventBook} that keeps track of its own history.
+ * Each state is kept as the edits that lead to it from the previous state, and only a bounded number of states
+ * are kept.
  */
 public class VersionedEventBook extends EventBook {
-    private final List<ReadOnlyEventBook> eventBookStateList;
-    private int currentStatePointer;
+
+    private final EditHistory<Event> history;
 
     public VersionedEventBook(ReadOnlyEventBook initialState) {
-        super(initialState);
+        this(initialState, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedEventBook} that keeps at most {@code maxStates} states to undo to, in an estimated
+     * {@code maxBytes}. The oldest states are forgotten first.
+     */
+    public VersionedEventBook(ReadOnlyEventBook initialState, int maxStates, long maxBytes) {
+        requireNonNull(initialState);
+        history = new EditHistory<>(edit -> apply(this, edit), maxStates, maxBytes);
+        super.setEvents(initialState.getEventList());
+    }
+
+    @Override
+    public void setEvents(List<Event> events) {
+        ListEdit<Event> edit = ListEdit.replacementOfAll(getEventList(), events);
+        super.setEvents(events);
+        history.record(edit);
+    }
 
-        eventBookStateList = new ArrayList<>();
-        eventBookStateList.add(new EventBook(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void addEvent(Event e) {
+        int index = getEventList().size();
+        super.addEvent(e);
+        history.record(ListEdit.insertion(index, e));
+    }
+
+    @Override
+    public void updateEvent(Event target, Event editedEvent) {
+        int index = indexOfEvent(target);
+        if (index == -1) {
+            throw new EventNotFoundException();
+        }
+        Event stored = getEventList().get(index);
+        super.updateEvent(target, editedEvent);
+        history.record(ListEdit.replacement(index, stored, editedEvent));
+    }
+
+    @Override
+    public void removeEvent(Event key) {
+        int index = indexOfEvent(key);
+        if (index == -1) {
+            throw new EventNotFoundException();
+        }
+        Event stored = getEventList().get(index);
+        super.removeEvent(key);
+        history.record(ListEdit.removal(index, stored));
     }
 
     /**
-     * Saves a copy of the current {@code EventBook} state at the end of the state list.
+     * Saves the current {@code EventBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        eventBookStateList.add(new EventBook(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        eventBookStateList.subList(currentStatePointer + 1, eventBookStateList.size()).clear();
+        history.commit();
     }
 
     /**
@@ -40,8 +84,7 @@ public class VersionedEventBook extends EventBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(eventBookStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
@@ -51,22 +94,54 @@ public class VersionedEventBook extends EventBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(eventBookStateList.get(currentStatePointer));
+        history.redo();
     }
 
     /**
      * Returns true if {@code undo()} has event book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has event book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < eventBookStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by the undo history.
+     */
+    public long getEstimatedHistoryBytes() {
+        return history.getEstimatedBytes();
+    }
+
+    /**
+     * Returns every committed state in the history, oldest first.
+     */
+    private List<EventBook> getStates() {
+        return history.rebuildStates(this, EventBook::new, VersionedEventBook::apply);
+    }
+
+    /**
+     * Applies {@code edit} to the event list of {@code eventBook}.
+     * The event book may hold equal events, so the edit is applied at its position rather than to the first equal
+     * event.
+     */
+    private static void apply(EventBook eventBook, ListEdit<Event> edit) {
+        List<Event> removed = edit.getRemoved();
+        List<Event> added = edit.getAdded();
+        if (removed.size() > 1 || added.size() > 1) {
+            eventBook.setEvents(added);
+        } else if (removed.isEmpty() && !added.isEmpty()) {
+            eventBook.addEvent(edit.getIndex(), added.get(0));
+        } else if (!removed.isEmpty() && added.isEmpty()) {
+            eventBook.removeEvent(edit.getIndex());
+        } else if (!removed.isEmpty()) {
+            eventBook.updateEvent(edit.getIndex(), added.get(0));
+        }
     }
 
     @Override
@@ -85,8 +160,8 @@ public class VersionedEventBook extends EventBook {
 
         // state check
         return super.equals(otherVersionedEventBook)
-                && eventBookStateList.equals(otherVersionedEventBook.eventBookStateList)
-                && currentStatePointer == otherVersionedEventBook.currentStatePointer;
+                && getStates().equals(otherVersionedEventBook.getStates())
+                && history.getCurrentStatePointer() == otherVersionedEventBook.history.getCurrentStatePointer();
     }
 
     /**
@@ -1,35 +1,77 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 
+import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.address.model.util.EditHistory;
+import seedu.address.model.util.ListEdit;
+
 /**
  * {@code ExpenseBook} that keeps track of its own history.
+ * Every add, edit and removal is logged as a reversible edit, so undo and redo apply the inverse or the edit itself
+ * instead of restoring a copy of the whole expense book.
  */
 public class VersionedExpenseBook extends ExpenseBook {
-    private final List<ReadOnlyExpenseBook> expenseBookStateList;
-    private int currentStatePointer;
+    private final EditHistory<Expense> history;
 
     public VersionedExpenseBook(ReadOnlyExpenseBook initialState) {
-        super(initialState);
+        this(initialState, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedExpenseBook} that keeps at most {@code maxStates} states to undo to, in an estimated
+     * {@code maxBytes}. The oldest states are forgotten first.
+     */
+    public VersionedExpenseBook(ReadOnlyExpenseBook initialState, int maxStates, long maxBytes) {
+        requireNonNull(initialState);
+        history = new EditHistory<>(edit -> apply(this, edit), maxStates, maxBytes);
+        super.setExpenses(initialState.getExpenseList());
+    }
+
+    @Override
+    public void setExpenses(List<Expense> expenses) {
+        ListEdit<Expense> edit = ListEdit.replacementOfAll(getExpenseList(), expenses);
+        super.setExpenses(expenses);
+        history.record(edit);
+    }
+
+    @Override
+    public void addExpense(Expense e) {
+        super.addExpense(e);
+        history.record(ListEdit.insertion(indexOfExpense(e), e));
+    }
+
+    @Override
+    public void updateExpense(Expense target, Expense editedExpense) {
+        int index = indexOfExpense(target);
+        if (index == -1) {
+            throw new ExpenseNotFoundException();
+        }
+        Expense stored = getExpenseList().get(index);
+        super.updateExpense(target, editedExpense);
+        history.record(ListEdit.replacement(index, stored, editedExpense));
+    }
 
-        expenseBookStateList = new ArrayList<>();
-        expenseBookStateList.add(new ExpenseBook(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void removeExpense(Expense key) {
+        int index = indexOfExpense(key);
+        if (index == -1) {
+            throw new ExpenseNotFoundException();
+        }
+        Expense stored = getExpenseList().get(index);
+        super.removeExpense(key);
+        history.record(ListEdit.removal(index, stored));
     }
 
     /**
-     * Saves a copy of the current {@code ExpenseBook} state at the end of the state list.
+     * Saves the current {@code ExpenseBook} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        expenseBookStateList.add(new ExpenseBook(this));
-        currentStatePointer++;
-    }
-
-    private void removeStatesAfterCurrentPointer() {
-        expenseBookStateList.subList(currentStatePointer + 1, expenseBookStateList.size()).clear();
+        history.commit();
     }
 
     /**
@@ -39,8 +81,7 @@ public class VersionedExpenseBook extends ExpenseBook {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(expenseBookStateList.get(currentStatePointer));
+        history.undo();
     }
 
     /**
@@ -50,22 +91,53 @@ public class VersionedExpenseBook extends ExpenseBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(expenseBookStateList.get(currentStatePointer));
+        history.redo();
     }
 
     /**
      * Returns true if {@code undo()} has expense book states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has expense book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < expenseBookStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by the undo history.
+     */
+    public long getEstimatedHistoryBytes() {
+        return history.getEstimatedBytes();
+    }
+
+    /**
+     * Returns every committed state in the history, oldest first.
+     */
+    private List<ExpenseBook> getStates() {
+        return history.rebuildStates(this, ExpenseBook::new, VersionedExpenseBook::apply);
+    }
+
+    /**
+     * Applies {@code edit} to the expense list of {@code expenseBook}.
+     * Expenses are kept in sorted order, so the position of the edit is not needed.
+     */
+    private static void apply(ExpenseBook expenseBook, ListEdit<Expense> edit) {
+        List<Expense> removed = edit.getRemoved();
+        List<Expense> added = edit.getAdded();
+        if (removed.size() > 1 || added.size() > 1) {
+            expenseBook.setExpenses(added);
+        } else if (removed.isEmpty() && !added.isEmpty()) {
+            expenseBook.addExpense(added.get(0));
+        } else if (!removed.isEmpty() && added.isEmpty()) {
+            expenseBook.removeExpense(removed.get(0));
+        } else if (!removed.isEmpty()) {
+            expenseBook.updateExpense(removed.get(0), added.get(0));
+        }
     }
 
     @Override
@@ -84,8 +156,8 @@ public class VersionedExpenseBook extends ExpenseBook {
 
         // state check
         return super.equals(otherVersionedExpenseBook)
-                && expenseBookStateList.equals(otherVersionedExpenseBook.expenseBookStateList)
-                && currentStatePointer == otherVersionedExpenseBook.currentStatePointer;
+                && getStates().equals(otherVersionedExpenseBook.getStates())
+                && history.getCurrentStatePointer() == otherVersionedExpenseBook.history.getCurrentStatePointer();
     }
 
     /**
@@ -1,35 +1,144 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
 
+import seedu.address.model.task.Task;
+import seedu.address.model.task.expections.TaskNotFoundException;
+import seedu.address.model.util.EditHistory;
+import seedu.address.model.util.ListEdit;
 
 /**
  * {@code TaskBook} that keeps track of its own history.
+ * Each state is kept as the edits that lead to it from the previous state, and only a bounded number of states
+ * are kept.
  */
 public class VersionedTaskBook extends TaskBook {
-    private final List<ReadOnlyTaskBook> taskBookStateList;
-    private int currentStatePointer;
+
+    private final EditHistory<Task> history;
 
     public VersionedTaskBook(ReadOnlyTaskBook initialState) {
-        super(initialState);
+        this(initialState, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a {@code VersionedTaskBook} that keeps at most {@code maxStates} states to undo to, in an estimated
+     * {@code maxBytes}. The oldest states are forgotten first.
+     */
+    public VersionedTaskBook(ReadOnlyTaskBook initialState, int maxStates, long maxBytes) {
+        requireNonNull(initialState);
+        history = new EditHistory<>(edit -> apply(this, edit), maxStates, maxBytes);
+        super.setTasks(initialState.getTaskList());
+    }
+
+    @Override
+    public void setTasks(List<Task> tasks) {
+        ListEdit<Task> edit = ListEdit.replacementOfAll(getTaskList(), tasks);
+        super.setTasks(tasks);
+        history.record(edit);
+    }
+
+    @Override
+    public void addTask(Task t) {
+        super.addTask(t);
+        history.record(ListEdit.insertion(indexOfTask(t), t));
+    }
+
+    @Override
+    public void updateTask(Task target, Task updatedTask) {
+        int index = indexOfTask(target);
+        if (index == -1) {
+            throw new TaskNotFoundException();
+        }
+        Task stored = getTaskList().get(index);
+        super.updateTask(target, updatedTask);
+        history.record(ListEdit.replacement(index, stored, updatedTask));
+    }
 
-        taskBookStateList = new ArrayList<>();
-        taskBookStateList.add(new TaskBook(initialState));
-        currentStatePointer = 0;
+    @Override
+    public void removeTask(Task key) {
+        int index = indexOfTask(key);
+        if (index == -1) {
+            throw new TaskNotFoundException();
+        }
+        Task stored = getTaskList().get(index);
+        super.removeTask(key);
+        history.record(ListEdit.removal(index, stored));
     }
 
     /**
-     * Saves a copy of the current {@code TaskBook} state at the end of the state list.
+     * Saves the current {@code TaskBook} state at the end of the state list.
+     * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        taskBookStateList.add(new TaskBook(this));
-        currentStatePointer++;
+        history.commit();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        taskBookStateList.subList(currentStatePointer + 1, taskBookStateList.size()).clear();
+    /**
+     * Restores the task book to its previous state.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        history.undo();
+    }
+
+    /**
+     * Restores the task book to its previously undone state.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        history.redo();
+    }
+
+    /**
+     * Returns true if {@code undo()} has task book states to undo.
+     */
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns true if {@code redo()} has task book states to redo.
+     */
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by the undo history.
+     */
+    public long getEstimatedHistoryBytes() {
+        return history.getEstimatedBytes();
+    }
+
+    /**
+     * Returns every committed state in the history, oldest first.
+     */
+    private List<TaskBook> getStates() {
+        return history.rebuildStates(this, TaskBook::new, VersionedTaskBook::apply);
+    }
+
+    /**
+     * Applies {@code edit} to the task list of {@code taskBook}.
+     * Tasks are kept in sorted order, so the position of the edit is not needed.
+     */
+    private static void apply(TaskBook taskBook, ListEdit<Task> edit) {
+        List<Task> removed = edit.getRemoved();
+        List<Task> added = edit.getAdded();
+        if (removed.size() > 1 || added.size() > 1) {
+            taskBook.setTasks(added);
+        } else if (removed.isEmpty() && !added.isEmpty()) {
+            taskBook.addTask(added.get(0));
+        } else if (!removed.isEmpty() && added.isEmpty()) {
+            taskBook.removeTask(removed.get(0));
+        } else if (!removed.isEmpty()) {
+            taskBook.updateTask(removed.get(0), added.get(0));
+        }
     }
 
     @Override
@@ -48,7 +157,26 @@ public class VersionedTaskBook extends TaskBook {
 
         // state check
         return super.equals(otherVersionedTaskBook)
-                && taskBookStateList.equals(otherVersionedTaskBook.taskBookStateList)
-                && currentStatePointer == otherVersionedTaskBook.currentStatePointer;
+                && getStates().equals(otherVersionedTaskBook.getStates())
+                && history.getCurrentStatePointer() == otherVersionedTaskBook.history.getCurrentStatePointer();
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("Current state pointer at start of taskBookState list, unable to undo.");
+        }
     }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("Current state pointer at end of taskBookState list, unable to redo.");
+        }
+    }
+
 }
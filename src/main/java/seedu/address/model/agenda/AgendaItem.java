@@ -0,0 +1,110 @@
+package seedu.address.model.agenda;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.DateUtil;
+import seedu.address.model.event.Event;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.task.Task;
+
+/**
+ * A row of the agenda, which lists the tasks, events and expenses of the student planner together by date.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class AgendaItem {
+
+    /**
+     * The book that an agenda item comes from.
+     */
+    public enum Kind {
+        TASK, EVENT, EXPENSE
+    }
+
+    /** The time of agenda items whose time is unknown, which come after all others. */
+    public static final long UNKNOWN_EPOCH_MINUTE = Long.MAX_VALUE;
+
+    private final Kind kind;
+    private final long epochMinute;
+    private final String title;
+    private final String when;
+
+    /**
+     * Every field must be present and not null.
+     *
+     * @param epochMinute the number of minutes from 1970-01-01 00:00 to the time the agenda item is listed at.
+     * @param when the time of the agenda item as it is shown.
+     */
+    public AgendaItem(Kind kind, long epochMinute, String title, String when) {
+        requireAllNonNull(kind, title, when);
+        this.kind = kind;
+        this.epochMinute = epochMinute;
+        this.title = title;
+        this.when = when;
+    }
+
+    /**
+     * Returns the agenda item of {@code task}, listed at its end in {@code year}, as tasks do not record a year.
+     */
+    public static AgendaItem ofTask(Task task, int year) {
+        long epochMinute = task.getEndDateTime().atYear(year).map(DateUtil::toEpochMinute)
+                .orElse(UNKNOWN_EPOCH_MINUTE);
+        return new AgendaItem(Kind.TASK, epochMinute, task.getTaskName().fullName,
+                task.getEndDateTime().dateTimeString);
+    }
+
+    /**
+     * Returns the agenda item of {@code event}, listed at its start.
+     */
+    public static AgendaItem ofEvent(Event event) {
+        return new AgendaItem(Kind.EVENT, event.toEpochMinute(), event.getEventName().fullName,
+                event.getEventDate().value + " " + event.getEventTime().value);
+    }
+
+    /**
+     * Returns the agenda item of {@code expense}, listed at the start of its day.
+     */
+    public static AgendaItem ofExpense(Expense expense) {
+        return new AgendaItem(Kind.EXPENSE, expense.getExpenseDate().toEpochDay() * MINUTES_PER_DAY,
+                expense.getExpenseCategory().expenseCategory + " $" + expense.getExpenseValue().expenseValue,
+                expense.getExpenseDate().expenseDate);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getWhen() {
+        return when;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AgendaItem // instanceof handles nulls
+                && kind == ((AgendaItem) other).kind
+                && epochMinute == ((AgendaItem) other).epochMinute
+                && title.equals(((AgendaItem) other).title)
+                && when.equals(((AgendaItem) other).when)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, epochMinute, title, when);
+    }
+
+    @Override
+    public String toString() {
+        return kind + ": " + title + " (" + when + ")";
+    }
+}
@@ -4,9 +4,7 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import seedu.address.commons.util.DateUtil;
 
 /**
  * Represents an event's date in the Student Planner.
@@ -18,6 +16,7 @@ public class Date {
     public static final String MESSAGE_EVENT_DATE_CONSTRAINTS =
             "Event date should be in the DD/MM/YYYY format";
     public final String value;
+    private final long epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -28,24 +27,21 @@ public class Date {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_EVENT_DATE_CONSTRAINTS);
         value = date;
+        epochDay = DateUtil.toEpochDay(date);
     }
 
     /**
      * Returns true if a given string is a valid event date.
      */
     public static boolean isValidDate(String test) {
-        String pattern = "dd/MM/yyyy";
-        if (test.length() != pattern.length()) {
-            return false;
-        }
-        DateFormat eventDate = new SimpleDateFormat(pattern);
-        eventDate.setLenient(false);
-        try {
-            eventDate.parse(test);
-            return true;
-        } catch (ParseException pe) {
-            return false;
-        }
+        return DateUtil.isValidDate(test);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this date, parsed once on construction.
+     */
+    public long toEpochDay() {
+        return epochDay;
     }
 
     @Override
@@ -2,9 +2,8 @@
 package seedu.address.model.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -16,10 +15,13 @@ import seedu.address.model.eventContacts.EventContacts;
  */
 public class Event {
 
+    /** Events are recorded with a start only, so each is taken to last this many minutes when looking for clashes. */
+    public static final int ASSUMED_DURATION_MINUTES = 60;
+
     private final EventName eventName;
     private final Date date;
     private final Time time;
-    private final Set<EventContacts> eventContacts = new HashSet<>();
+    private final Set<EventContacts> eventContacts;
 
     /**
      * Every field must be present and not null.
@@ -29,7 +31,7 @@ public class Event {
         this.eventName = eventName;
         this.date = date;
         this.time = time;
-        this.eventContacts.addAll(eventContacts);
+        this.eventContacts = EventContacts.internAll(eventContacts);
     }
 
     public EventName getEventName() {
@@ -44,12 +46,19 @@ public class Event {
         return time;
     }
 
+    /**
+     * Returns the number of minutes from 1970-01-01 00:00 to the start of this event.
+     */
+    public long toEpochMinute() {
+        return date.toEpochDay() * MINUTES_PER_DAY + time.getMinuteOfDay();
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<EventContacts> getEventContacts() {
-        return Collections.unmodifiableSet(eventContacts);
+        return eventContacts;
     }
 
     @Override
@@ -0,0 +1,49 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Two events in the student planner that take place at the same time, the earlier-starting one first.
+ */
+public class EventClash {
+
+    private final Event first;
+    private final Event second;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public EventClash(Event first, Event second) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+    }
+
+    public Event getFirst() {
+        return first;
+    }
+
+    public Event getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EventClash // instanceof handles nulls
+                && first.equals(((EventClash) other).first)
+                && second.equals(((EventClash) other).second)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(first, second);
+    }
+
+    @Override
+    public String toString() {
+        return first.getEventName() + " clashes with " + second.getEventName();
+    }
+}
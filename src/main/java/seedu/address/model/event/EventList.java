@@ -28,6 +28,24 @@ public class EventList implements Iterable<Event> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts an event at position {@code index} of the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not between 0 and the size of the list.
+     */
+    public void add(int index, Event toAdd) {
+        requireNonNull(toAdd);
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Returns the position of the event equal to {@code event} in the list, or -1 if there is none.
+     */
+    public int indexOf(Event event) {
+        requireNonNull(event);
+        return internalList.indexOf(event);
+    }
+
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
@@ -43,6 +61,16 @@ public class EventList implements Iterable<Event> {
         internalList.set(index, editedEvent);
     }
 
+    /**
+     * Replaces the event at position {@code index} of the list with {@code editedEvent}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public void setEvent(int index, Event editedEvent) {
+        requireNonNull(editedEvent);
+        internalList.set(index, editedEvent);
+    }
+
     /**
      * Replaces the contents of this list with {@code expenses}.
      */
@@ -62,6 +90,15 @@ public class EventList implements Iterable<Event> {
         }
     }
 
+    /**
+     * Removes the event at position {@code index} of the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position in the list.
+     */
+    public void remove(int index) {
+        internalList.remove(index);
+    }
+
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
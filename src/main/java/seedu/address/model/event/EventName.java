@@ -4,6 +4,12 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents an event in the Student Planner
  * Guarantees: immutable;
@@ -21,6 +27,8 @@ public class EventName {
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    /** Case-folded words of the event name. */
+    private final String[] foldedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -31,6 +39,7 @@ public class EventName {
         requireNonNull(eventName);
         checkArgument(isValidName(eventName), MESSAGE_EVENT_NAME_CONSTRAINTS);
         fullName = eventName;
+        foldedWords = StringUtil.toFoldedWords(eventName).toArray(new String[0]);
     }
 
     /**
@@ -40,6 +49,21 @@ public class EventName {
         return test.matches(NAME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if {@code foldedWord}, a word with its case folded by {@link StringUtil#foldCase(String)}, is one of
+     * the words of the event name.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsWord(foldedWords, foldedWord);
+    }
+
+    /**
+     * Returns the words of the event name with their case folded, in order, as an unmodifiable list.
+     */
+    public List<String> getFoldedWords() {
+        return Collections.unmodifiableList(Arrays.asList(foldedWords));
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -0,0 +1,129 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the events in an observable event list by the minute they start at, kept in a sorted map.
+ * The index listens to the list, so adding, editing or removing an event only updates its own entry, and looking up
+ * the events in a time range takes time proportional to the logarithm of the number of events plus the number found.
+ */
+public class EventTimeIndex {
+
+    private final NavigableMap<Long, List<Event>> eventsByStart = new TreeMap<>();
+    /**
+     * Held so that the list, which may be a view listening only weakly to its backing list, lives as long as
+     * this index.
+     */
+    private final ObservableList<Event> events;
+
+    /**
+     * Creates an index of {@code events}, which is then kept up to date with the list.
+     */
+    public EventTimeIndex(ObservableList<Event> events) {
+        requireNonNull(events);
+        this.events = events;
+        events.forEach(this::add);
+        events.addListener(this::handleListChange);
+    }
+
+    /**
+     * Returns the events starting from {@code startEpochMinute} to {@code endEpochMinute} inclusive, counted in
+     * minutes since 1970-01-01 00:00, earliest first.
+     */
+    public List<Event> getEventsBetween(long startEpochMinute, long endEpochMinute) {
+        List<Event> events = new ArrayList<>();
+        if (startEpochMinute <= endEpochMinute) {
+            eventsByStart.subMap(startEpochMinute, true, endEpochMinute, true).values().forEach(events::addAll);
+        }
+        return events;
+    }
+
+    /**
+     * Returns the events earliest first, as a stream that reads the index only as far as it is consumed.
+     * The stream must be consumed before the event list next changes.
+     */
+    public Stream<Event> stream() {
+        return eventsByStart.values().stream().flatMap(List::stream);
+    }
+
+    /**
+     * Returns the events, other than {@code event} itself, that take place at the same time as {@code event}, that
+     * is, that start less than {@link Event#ASSUMED_DURATION_MINUTES} before or after it, earliest first.
+     */
+    public List<Event> getClashesWith(Event event) {
+        requireNonNull(event);
+        long start = event.toEpochMinute();
+        List<Event> clashes = getEventsBetween(start - Event.ASSUMED_DURATION_MINUTES + 1,
+                start + Event.ASSUMED_DURATION_MINUTES - 1);
+        clashes.removeIf(clash -> clash == event);
+        return clashes;
+    }
+
+    /**
+     * Returns every pair of events that take place at the same time, ordered by the start of the earlier event.
+     * The events are swept in order of their start while keeping those still taking place, so the time taken is
+     * proportional to the number of events plus the number of clashes.
+     */
+    public List<EventClash> getClashes() {
+        List<EventClash> clashes = new ArrayList<>();
+        Deque<Event> ongoingEvents = new ArrayDeque<>();
+        for (Map.Entry<Long, List<Event>> eventsAtMinute : eventsByStart.entrySet()) {
+            long start = eventsAtMinute.getKey();
+            while (!ongoingEvents.isEmpty()
+                    && ongoingEvents.peekFirst().toEpochMinute() + Event.ASSUMED_DURATION_MINUTES <= start) {
+                ongoingEvents.removeFirst();
+            }
+            for (Event event : eventsAtMinute.getValue()) {
+                ongoingEvents.forEach(ongoingEvent -> clashes.add(new EventClash(ongoingEvent, event)));
+                ongoingEvents.addLast(event);
+            }
+        }
+        return clashes;
+    }
+
+    /**
+     * Updates the index with the events removed from and added to the list.
+     */
+    private void handleListChange(ListChangeListener.Change<? extends Event> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Event event) {
+        eventsByStart.computeIfAbsent(event.toEpochMinute(), unused -> new ArrayList<>()).add(event);
+    }
+
+    /**
+     * Takes {@code event} itself, rather than an equal event, out of the index.
+     */
+    private void remove(Event event) {
+        long start = event.toEpochMinute();
+        List<Event> eventsAtMinute = eventsByStart.get(start);
+        for (int i = 0; i < eventsAtMinute.size(); i++) {
+            if (eventsAtMinute.get(i) == event) {
+                eventsAtMinute.remove(i);
+                break;
+            }
+        }
+        if (eventsAtMinute.isEmpty()) {
+            eventsByStart.remove(start);
+        }
+    }
+}
@@ -12,9 +12,11 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Time {
 
     public static final String MESSAGE_EVENT_TIME_CONSTRAINTS =
-            "Event time should only contain numbers, and it should be 4 digits long in the 24-hour format";
-    public static final String TIME_VALIDATION_REGEX = "\\d{4}";
+            "Event time should only contain numbers, and it should be a 4 digit time from 0000 to 2359 "
+            + "in the 24-hour format";
+    public static final String TIME_VALIDATION_REGEX = "([01]\\d|2[0-3])[0-5]\\d";
     public final String value;
+    private final int minuteOfDay;
 
     /**
      * Constructs a {@code Time}.
@@ -25,6 +27,7 @@ public class Time {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_EVENT_TIME_CONSTRAINTS);
         value = time;
+        minuteOfDay = Integer.parseInt(time.substring(0, 2)) * 60 + Integer.parseInt(time.substring(2));
     }
 
     /**
@@ -34,6 +37,13 @@ public class Time {
         return test.matches(TIME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the number of minutes from midnight to this time, parsed once on construction.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
     @Override
     public String toString() {
         return value;
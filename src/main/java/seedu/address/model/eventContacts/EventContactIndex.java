@@ -0,0 +1,64 @@
+package seedu.address.model.eventContacts;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.InvertedIndex;
+
+/**
+ * A join between the contacts of the events in an event list and the persons in a person list, by name.
+ * An event contact refers to every person with the same name, ignoring case and the spacing between words.
+ *
+ * The join is kept as two inverted indexes on the name, one of the events and one of the persons, which listen to
+ * their lists, so adding, editing or removing an event or a person in either book only updates its own names, and
+ * looking up either side of the join takes time proportional to the number of entries found.
+ */
+public class EventContactIndex {
+
+    private final InvertedIndex<String, Event> eventsByContactName;
+    private final InvertedIndex<String, Person> personsByName;
+
+    /**
+     * Creates the join of {@code events} and {@code persons}, which is then kept up to date with both lists.
+     */
+    public EventContactIndex(ObservableList<Event> events, ObservableList<Person> persons) {
+        requireAllNonNull(events, persons);
+        eventsByContactName = new InvertedIndex<>(events, event -> event.getEventContacts().stream()
+                .map(contact -> toJoinKey(contact.eventContactName)).collect(Collectors.toList()));
+        personsByName = new InvertedIndex<>(persons,
+                person -> Collections.singletonList(toJoinKey(person.getName().fullName)));
+    }
+
+    /**
+     * Returns the name that {@code name} is joined on, which is its words with their case folded, separated by a
+     * single space.
+     */
+    static String toJoinKey(String name) {
+        return String.join(" ", StringUtil.toFoldedWords(name));
+    }
+
+    /**
+     * Returns the events that have {@code person} as a contact, as a set that compares events by identity.
+     */
+    public Set<Event> getEventsOf(Person person) {
+        requireNonNull(person);
+        return eventsByContactName.getAny(Collections.singletonList(toJoinKey(person.getName().fullName)));
+    }
+
+    /**
+     * Returns the persons who are contacts of {@code event}, as a set that compares persons by identity.
+     */
+    public Set<Person> getContactsOf(Event event) {
+        requireNonNull(event);
+        return personsByName.getAny(event.getEventContacts().stream()
+                .map(contact -> toJoinKey(contact.eventContactName)).collect(Collectors.toList()));
+    }
+}
@@ -4,9 +4,17 @@ package seedu.address.model.eventContacts;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.util.ArraySet;
+import seedu.address.model.util.InternPool;
+
 /**
  * Represents an event contact in the student planner.
  * Guarantees: immutable;
+ * Event contacts are interned: {@link #of(String)} returns one shared instance for each contact name.
  */
 public class EventContacts {
 
@@ -14,6 +22,8 @@ public class EventContacts {
             + "letters and spaces";
     public static final String CONTACT_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final InternPool<EventContacts> POOL = new InternPool<>(EventContacts::new);
+
     public final String eventContactName;
 
     /**
@@ -27,6 +37,30 @@ public class EventContacts {
         this.eventContactName = eventContactName;
     }
 
+    /**
+     * Returns the shared {@code EventContacts} named {@code eventContactName}.
+     *
+     * @param eventContactName A valid event contact.
+     */
+    public static EventContacts of(String eventContactName) {
+        requireNonNull(eventContactName);
+        return POOL.intern(eventContactName);
+    }
+
+    /**
+     * Returns the shared {@code EventContacts} equal to this event contact.
+     */
+    public EventContacts intern() {
+        return of(eventContactName);
+    }
+
+    /**
+     * Returns an immutable, compact set of the shared instances of {@code eventContacts}.
+     */
+    public static Set<EventContacts> internAll(Collection<EventContacts> eventContacts) {
+        return new ArraySet<>(eventContacts.stream().map(EventContacts::intern).collect(Collectors.toList()));
+    }
+
     /**
      * Returns true if a given string is a valid contact.
      */
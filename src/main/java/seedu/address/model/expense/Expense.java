@@ -2,11 +2,6 @@ package seedu.address.model.expense;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Collections;
-import java.util.Date;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -18,11 +13,15 @@ import seedu.address.model.tag.Tag;
  */
 public class Expense implements Comparable<Expense> {
 
+    /** Number of low bits of the sort key that hold the value in cents. */
+    private static final int CENTS_BITS = 24;
+
     private final ExpenseCategory expenseCategory;
     private final ExpenseDate expenseDate;
     private final ExpenseValue expenseValue;
 
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
+    private final long sortKey;
 
     /**
      * Every field must be present and not null.
@@ -32,7 +31,8 @@ public class Expense implements Comparable<Expense> {
         this.expenseCategory = expenseCategory;
         this.expenseDate = expenseDate;
         this.expenseValue = expenseValue;
-        this.tags.addAll(tags);
+        this.tags = Tag.internAll(tags);
+        this.sortKey = (expenseDate.toEpochDay() << CENTS_BITS) + expenseValue.toCents();
     }
 
     public ExpenseCategory getExpenseCategory() {
@@ -47,12 +47,20 @@ public class Expense implements Comparable<Expense> {
         return this.expenseValue;
     }
 
+    /**
+     * Returns the date and value of this expense packed into one {@code long}: the epoch day in the high bits
+     * and the value in cents in the low bits. Expenses with a larger key come first in the natural order.
+     */
+    public long getSortKey() {
+        return sortKey;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     @Override
@@ -75,27 +83,16 @@ public class Expense implements Comparable<Expense> {
         return builder.toString();
     }
 
+    /**
+     * Orders expenses by date, then value, then category, all descending.
+     * Only the category is compared as a string, and only when date and value are the same.
+     */
     @Override
     public int compareTo(Expense expense) {
-        try {
-            SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            Date date1 = simpleDateFormat.parse(this.getExpenseDate().toString());
-            Date date2 = simpleDateFormat.parse(expense.getExpenseDate().toString());
-            if (date2.compareTo(date1) == 0) {
-                Double value1 = Double.parseDouble(this.getExpenseValue().toString());
-                Double value2 = Double.parseDouble(expense.getExpenseValue().toString());
-                if (value2.compareTo(value1) == 0) {
-                    String category1 = this.getExpenseCategory().toString();
-                    String category2 = expense.getExpenseCategory().toString();
-                    return category2.compareTo(category1);
-                } else {
-                    return value2.compareTo(value1);
-                }
-            } else {
-                return date2.compareTo(date1);
-            }
-        } catch (ParseException pe) {
-            return 0;
+        int byDateThenValue = Long.compare(expense.sortKey, sortKey);
+        if (byDateThenValue != 0) {
+            return byDateThenValue;
         }
+        return expense.getExpenseCategory().toString().compareTo(getExpenseCategory().toString());
     }
 }
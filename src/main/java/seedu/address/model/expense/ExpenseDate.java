@@ -3,9 +3,10 @@ package seedu.address.model.expense;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import seedu.address.commons.util.DateUtil;
 
 /**
  * Represents an expense's date in the address book.
@@ -16,6 +17,7 @@ public class ExpenseDate {
             "Expense date should be a valid date in DD/MM/YYYY format.";
 
     public final String expenseDate;
+    private final long epochDay;
 
     /**
      * Constructs a {@code ExpenseDate}.
@@ -26,24 +28,28 @@ public class ExpenseDate {
         requireNonNull(expenseDate);
         checkArgument(isValidDate(expenseDate), MESSAGE_EXPENSE_DATE_CONSTRAINTS);
         this.expenseDate = expenseDate;
+        this.epochDay = DateUtil.toEpochDay(expenseDate);
     }
 
     /**
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        String pattern = "dd/MM/yyyy";
-        if (test.length() != pattern.length()) {
-            return false;
-        }
-        DateFormat dateFormat = new SimpleDateFormat (pattern);
-        dateFormat.setLenient(false);
-        try {
-            dateFormat.parse(test);
-            return true;
-        } catch (ParseException pe) {
-            return false;
-        }
+        return DateUtil.isValidDate(test);
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this date, parsed once on construction.
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the month and year of this date.
+     */
+    public YearMonth toYearMonth() {
+        return YearMonth.from(LocalDate.ofEpochDay(epochDay));
     }
 
     @Override
@@ -3,29 +3,33 @@ package seedu.address.model.expense;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.address.model.util.OrderedObservableList;
 
 /**
  * A list of expense that does not allow nulls.
+ * Expenses are kept in their natural order. Each add, edit or removal finds its position by binary search
+ * and is reported to listeners as a single change.
  *
  * Supports a minimal set of list operations.
  **/
 public class ExpenseList implements Iterable<Expense> {
 
-    private final ObservableList<Expense> internalList = FXCollections.observableArrayList();
+    private final OrderedObservableList<Expense> internalList =
+            new OrderedObservableList<>(Comparator.naturalOrder());
 
     /**
      * Adds an expense to the list.
      */
     public void add(Expense toAdd) {
         requireNonNull(toAdd);
-        internalList.add(toAdd);
-        insertionSort(internalList);
+        internalList.insert(toAdd);
     }
 
     /**
@@ -35,21 +39,28 @@ public class ExpenseList implements Iterable<Expense> {
     public void setExpenses(Expense target, Expense editedExpense) {
         requireAllNonNull(target, editedExpense);
 
-        int index = internalList.indexOf(target);
+        int index = internalList.find(target);
         if (index == -1) {
             throw new ExpenseNotFoundException();
         }
 
-        internalList.set(index, editedExpense);
-        insertionSort(internalList);
+        internalList.replace(index, editedExpense);
     }
 
     /**
-     * Replaces the contents of this list with {@code expenses}.
+     * Returns the position of the expense equal to {@code expense} in the list, or -1 if there is none.
+     */
+    public int indexOf(Expense expense) {
+        requireNonNull(expense);
+        return internalList.find(expense);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code expenses}, kept in sorted order.
      */
     public void setExpenses(List<Expense> expenses) {
         requireAllNonNull(expenses);
-        internalList.setAll(expenses);
+        internalList.setAllSorted(expenses);
     }
 
     /**
@@ -58,12 +69,13 @@ public class ExpenseList implements Iterable<Expense> {
      */
     public void remove(Expense toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.find(toRemove);
+        if (index == -1) {
             throw new ExpenseNotFoundException();
         }
+        internalList.remove(index);
     }
 
-
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -87,21 +99,4 @@ public class ExpenseList implements Iterable<Expense> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * @param internalList list of expenses to be sorted
-     */
-    private void insertionSort(ObservableList<Expense> internalList) {
-        int n = internalList.size();
-        for (int i = 1; i < n; i++) {
-            Expense key = internalList.get(i);
-            int j = i - 1;
-            while (j >= 0 && internalList.get(j).compareTo(key) > 0) {
-                internalList.set(j + 1, internalList.get(j));
-                j = j - 1;
-            }
-            internalList.set(j + 1, key);
-        }
-
-    }
 }
@@ -0,0 +1,115 @@
+package seedu.address.model.expense;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Running totals in cents of the expenses in an observable expense list, by month and category.
+ * The totals listen to the list, so every add, edit, removal, undo and restore of an expense only adjusts the
+ * totals of its own month and category, and reading the totals of a month does not depend on the number of expenses.
+ */
+public class ExpenseTotals {
+
+    private final Map<YearMonth, Map<ExpenseCategory, Total>> totals = new HashMap<>();
+    /**
+     * Held so that the list, which may be a view listening only weakly to its backing list, lives as long as
+     * these totals.
+     */
+    private final ObservableList<Expense> expenses;
+
+    /**
+     * Creates the totals of {@code expenses}, which are then kept up to date with the list.
+     */
+    public ExpenseTotals(ObservableList<Expense> expenses) {
+        requireNonNull(expenses);
+        this.expenses = expenses;
+        expenses.forEach(this::add);
+        expenses.addListener(this::handleListChange);
+    }
+
+    /**
+     * Returns the total in cents of each category of expenses in {@code month}.
+     * Only categories with expenses in that month are included.
+     */
+    public Map<ExpenseCategory, Long> getTotalsByCategory(YearMonth month) {
+        requireNonNull(month);
+        Map<ExpenseCategory, Long> categoryTotals = new HashMap<>();
+        totals.getOrDefault(month, Collections.emptyMap())
+                .forEach((category, total) -> categoryTotals.put(category, total.cents));
+        return categoryTotals;
+    }
+
+    /**
+     * Returns the total in cents of the expenses in {@code month}.
+     *
+     * @throws ArithmeticException if the total overflows a {@code long}.
+     */
+    public long getTotal(YearMonth month) {
+        requireNonNull(month);
+        long monthTotal = 0;
+        for (Total total : totals.getOrDefault(month, Collections.emptyMap()).values()) {
+            monthTotal = ExpenseValue.sumCents(monthTotal, total.cents);
+        }
+        return monthTotal;
+    }
+
+    /**
+     * Updates the totals with the expenses removed from and added to the list.
+     */
+    private void handleListChange(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Expense expense) {
+        totals.computeIfAbsent(expense.getExpenseDate().toYearMonth(), unused -> new HashMap<>())
+                .computeIfAbsent(expense.getExpenseCategory(), unused -> new Total())
+                .add(expense.getExpenseValue());
+    }
+
+    /**
+     * Takes {@code expense} out of the totals, dropping the category and month once they have no expenses left.
+     */
+    private void remove(Expense expense) {
+        YearMonth month = expense.getExpenseDate().toYearMonth();
+        Map<ExpenseCategory, Total> categoryTotals = totals.get(month);
+        Total total = categoryTotals.get(expense.getExpenseCategory());
+        total.subtract(expense.getExpenseValue().toCents());
+        if (total.count == 0) {
+            categoryTotals.remove(expense.getExpenseCategory());
+        }
+        if (categoryTotals.isEmpty()) {
+            totals.remove(month);
+        }
+    }
+
+    /**
+     * The total value of some expenses and the number of expenses in it.
+     */
+    private static class Total {
+        private long cents;
+        private int count;
+
+        void add(ExpenseValue value) {
+            cents = value.addTo(cents);
+            count++;
+        }
+
+        void subtract(long expenseCents) {
+            cents = Math.subtractExact(cents, expenseCents);
+            count--;
+        }
+    }
+}
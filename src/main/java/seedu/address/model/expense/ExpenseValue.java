@@ -15,6 +15,7 @@ public class ExpenseValue {
     public static final double ZERO_EXPENSE_VALUE = 0.00;
     public static final String EXPENSE_VALUE_VALIDATION_REGEX = "\\d+\\.\\d{2}";
     public final String expenseValue;
+    private final long cents;
 
     /**
      * Constructs a {@code ExpenseValue}.
@@ -25,6 +26,7 @@ public class ExpenseValue {
         requireNonNull(expenseValue);
         checkArgument(isValidExpenseValue(expenseValue), MESSAGE_EXPENSE_VALUE_CONSTRAINTS);
         this.expenseValue = eliminateLeadingZero(expenseValue);
+        this.cents = Long.parseLong(this.expenseValue.replace(".", ""));
     }
 
     /**
@@ -42,6 +44,47 @@ public class ExpenseValue {
         return false;
     }
 
+    /**
+     * Returns this value as a whole number of cents, parsed once on construction.
+     */
+    public long toCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the sum of {@code totalCents} and this value, in cents.
+     *
+     * @throws ArithmeticException if the sum overflows a {@code long}.
+     */
+    public long addTo(long totalCents) {
+        return sumCents(totalCents, cents);
+    }
+
+    /**
+     * Returns the exact sum of {@code firstCents} and {@code secondCents}.
+     *
+     * @throws ArithmeticException if the sum overflows a {@code long}.
+     */
+    public static long sumCents(long firstCents, long secondCents) {
+        return Math.addExact(firstCents, secondCents);
+    }
+
+    /**
+     * Returns {@code cents} in dollars, for display and charting only.
+     */
+    public static double toDollars(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Returns {@code cents} formatted as dollars with exactly 2 decimal places, e.g. "12.50".
+     */
+    public static String formatCents(long cents) {
+        String sign = cents < 0 ? "-" : "";
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s%d.%02d", sign, absoluteCents / 100, absoluteCents % 100);
+    }
+
     @Override
     public String toString() {
         return expenseValue;
@@ -3,6 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -19,6 +25,8 @@ public class Address {
     public static final String ADDRESS_VALIDATION_REGEX = "[^\\s].*";
 
     public final String value;
+    /** Case-folded words of the address. */
+    private final String[] foldedWords;
 
     /**
      * Constructs an {@code Address}.
@@ -29,6 +37,7 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_ADDRESS_CONSTRAINTS);
         value = address;
+        foldedWords = StringUtil.toFoldedWords(address).toArray(new String[0]);
     }
 
     /**
@@ -38,6 +47,21 @@ public class Address {
         return test.matches(ADDRESS_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if {@code foldedWord}, a word with its case folded by {@link StringUtil#foldCase(String)}, is one of
+     * the words of the address.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsWord(foldedWords, foldedWord);
+    }
+
+    /**
+     * Returns the words of the address with their case folded, in order, as an unmodifiable list.
+     */
+    public List<String> getFoldedWords() {
+        return Collections.unmodifiableList(Arrays.asList(foldedWords));
+    }
+
     @Override
     public String toString() {
         return value;
@@ -10,15 +10,25 @@ import seedu.address.commons.util.StringUtil;
  */
 public class AddressContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        foldedKeywords = keywords.stream().map(keyword -> StringUtil.foldCase(keyword.trim())).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
+        for (String foldedKeyword : foldedKeywords) {
+            if (person.getAddress().containsFoldedWord(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
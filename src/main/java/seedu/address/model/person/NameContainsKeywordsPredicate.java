@@ -10,15 +10,25 @@ import seedu.address.commons.util.StringUtil;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        foldedKeywords = keywords.stream().map(keyword -> StringUtil.foldCase(keyword.trim())).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        for (String foldedKeyword : foldedKeywords) {
+            if (person.getName().containsFoldedWord(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
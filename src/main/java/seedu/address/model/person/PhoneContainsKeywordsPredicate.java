@@ -3,22 +3,61 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
+ * A keyword ending with {@link #PREFIX_WILDCARD} matches the phone numbers that start with the rest of the keyword.
  */
 public class PhoneContainsKeywordsPredicate implements Predicate<Person> {
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
+    private final String[] phones;
+    private final String[] prefixes;
 
+    /**
+     * Creates a predicate matching {@code keywords}, which are sorted into whole phone numbers and prefixes once
+     * here rather than on every test.
+     */
     public PhoneContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        phones = keywords.stream().filter(keyword -> !isPrefixKeyword(keyword)).map(String::trim)
+                .toArray(String[]::new);
+        prefixes = keywords.stream().filter(PhoneContainsKeywordsPredicate::isPrefixKeyword)
+                .map(PhoneContainsKeywordsPredicate::getPrefix).toArray(String[]::new);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if {@code keyword} matches every phone number that starts with {@link #getPrefix(String)}.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        return keyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    /**
+     * Returns the prefix matched by a keyword for which {@link #isPrefixKeyword(String)} is true.
+     */
+    public static String getPrefix(String keyword) {
+        return keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+        String phone = person.getPhone().value;
+        for (String prefix : prefixes) {
+            if (phone.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (String wholePhone : phones) {
+            if (phone.equals(wholePhone)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
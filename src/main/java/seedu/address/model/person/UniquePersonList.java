@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +26,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes on name+phone and name+email that are kept in sync with the
+ * backing list, so duplicate checks and lookups do not need to scan the list.
+ * The persons are also kept sorted by phone number, so that persons can be found by phone number or by a prefix of
+ * it with a binary search.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -25,13 +38,62 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<IdentityKey, Person> nameAndPhoneIndex = new HashMap<>();
+    private final Map<IdentityKey, Person> nameAndEmailIndex = new HashMap<>();
+    private final Map<Person, Integer> positions = new IdentityHashMap<>();
+    private final List<Person> personsByPhone = new ArrayList<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameAndPhoneIndex.containsKey(IdentityKey.ofNameAndPhone(toCheck))
+                || nameAndEmailIndex.containsKey(IdentityKey.ofNameAndEmail(toCheck));
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code target}, or -1 if there is none.
+     */
+    public int indexOf(Person target) {
+        requireNonNull(target);
+        Person stored = nameAndPhoneIndex.get(IdentityKey.ofNameAndPhone(target));
+        if (stored == null || !stored.equals(target)) {
+            return -1;
+        }
+        return positions.get(stored);
+    }
+
+    /**
+     * Returns the persons in the list whose phone number is {@code phone}.
+     */
+    public List<Person> findByPhone(String phone) {
+        requireNonNull(phone);
+        List<Person> found = new ArrayList<>();
+        for (int i = phoneLowerBound(phone); i < personsByPhone.size(); i++) {
+            Person person = personsByPhone.get(i);
+            if (!person.getPhone().value.equals(phone)) {
+                break;
+            }
+            found.add(person);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the persons in the list whose phone number starts with {@code prefix}, in order of phone number.
+     */
+    public List<Person> findByPhonePrefix(String prefix) {
+        requireNonNull(prefix);
+        List<Person> found = new ArrayList<>();
+        for (int i = phoneLowerBound(prefix); i < personsByPhone.size(); i++) {
+            Person person = personsByPhone.get(i);
+            if (!person.getPhone().value.startsWith(prefix)) {
+                break;
+            }
+            found.add(person);
+        }
+        return found;
     }
 
     /**
@@ -39,11 +101,28 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
+        add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Inserts a person at position {@code index} of the list.
+     * The person must not already exist in the list.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not between 0 and the size of the list inclusive.
+     */
+    public void add(int index, Person toAdd) {
         requireNonNull(toAdd);
+        if (index < 0 || index > internalList.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + internalList.size());
+        }
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        index(toAdd, index);
+        internalList.add(index, toAdd);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
     }
 
     /**
@@ -54,15 +133,19 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        Person stored = internalList.get(index);
+        if (isHeldByOther(nameAndPhoneIndex.get(IdentityKey.ofNameAndPhone(editedPerson)), stored)
+                || isHeldByOther(nameAndEmailIndex.get(IdentityKey.ofNameAndEmail(editedPerson)), stored)) {
             throw new DuplicatePersonException();
         }
 
+        unindex(stored);
+        index(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -72,13 +155,24 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        unindex(internalList.get(index));
+        internalList.remove(index);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,6 +186,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
@@ -119,17 +214,115 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    private static boolean isHeldByOther(Person holder, Person self) {
+        return holder != null && holder != self;
+    }
+
+    private void index(Person person, int position) {
+        indexIdentity(person, position);
+        personsByPhone.add(phoneLowerBound(person.getPhone().value), person);
+    }
+
+    private void indexIdentity(Person person, int position) {
+        nameAndPhoneIndex.put(IdentityKey.ofNameAndPhone(person), person);
+        nameAndEmailIndex.put(IdentityKey.ofNameAndEmail(person), person);
+        positions.put(person, position);
+    }
+
+    /**
+     * Removes {@code person}, which must be the indexed instance, from every index.
+     */
+    private void unindex(Person person) {
+        nameAndPhoneIndex.remove(IdentityKey.ofNameAndPhone(person));
+        nameAndEmailIndex.remove(IdentityKey.ofNameAndEmail(person));
+        positions.remove(person);
+        int i = phoneLowerBound(person.getPhone().value);
+        while (personsByPhone.get(i) != person) {
+            i++;
+        }
+        personsByPhone.remove(i);
+    }
+
+    /**
+     * Returns the position of the first person in {@code personsByPhone} whose phone number is not less than
+     * {@code phone}, or the size of {@code personsByPhone} if there is none.
+     */
+    private int phoneLowerBound(String phone) {
+        int low = 0;
+        int high = personsByPhone.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (personsByPhone.get(middle).getPhone().value.compareTo(phone) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Discards all indexed entries and indexes {@code persons} at their positions in that list.
+     */
+    private void rebuildIndexes(List<Person> persons) {
+        nameAndPhoneIndex.clear();
+        nameAndEmailIndex.clear();
+        positions.clear();
+        personsByPhone.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            indexIdentity(persons.get(i), i);
+        }
+        personsByPhone.addAll(persons);
+        personsByPhone.sort(Comparator.comparing(person -> person.getPhone().value));
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seenNameAndPhone = new HashSet<>();
+        Set<IdentityKey> seenNameAndEmail = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNameAndPhone.add(IdentityKey.ofNameAndPhone(person))
+                    || !seenNameAndEmail.add(IdentityKey.ofNameAndEmail(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Hash key over the name and one other identity field of a {@code Person}.
+     * Two persons are the same person iff they share at least one such key.
+     */
+    private static class IdentityKey {
+        private final Name name;
+        private final Object field;
+
+        private IdentityKey(Name name, Object field) {
+            this.name = name;
+            this.field = field;
+        }
+
+        static IdentityKey ofNameAndPhone(Person person) {
+            return new IdentityKey(person.getName(), person.getPhone());
+        }
+
+        static IdentityKey ofNameAndEmail(Person person) {
+            return new IdentityKey(person.getName(), person.getEmail());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && name.equals(((IdentityKey) other).name)
+                    && field.equals(((IdentityKey) other).field));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, field);
+        }
+    }
 }
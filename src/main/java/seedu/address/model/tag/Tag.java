@@ -3,15 +3,25 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.util.ArraySet;
+import seedu.address.model.util.InternPool;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Tags are interned: {@link #of(String)} returns one shared instance for each tag name.
  */
 public class Tag {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final InternPool<Tag> POOL = new InternPool<>(Tag::new);
+
     public final String tagName;
 
     /**
@@ -25,6 +35,30 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return POOL.intern(tagName);
+    }
+
+    /**
+     * Returns the shared {@code Tag} equal to this tag.
+     */
+    public Tag intern() {
+        return of(tagName);
+    }
+
+    /**
+     * Returns an immutable, compact set of the shared instances of {@code tags}.
+     */
+    public static Set<Tag> internAll(Collection<Tag> tags) {
+        return new ArraySet<>(tags.stream().map(Tag::intern).collect(Collectors.toList()));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
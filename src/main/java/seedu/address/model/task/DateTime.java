@@ -1,5 +1,13 @@
 package seedu.address.model.task;
 
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.MonthDay;
+import java.util.Optional;
+
 //@@author luhan02
 /**
  * Represents a Task's start & end date time in the task list.
@@ -25,12 +33,26 @@ public class DateTime {
             + "|((0?[1-9]|[12][0-9]|3[01])/(0?[13578]|10|12))|((0?[1-9]|[12][0-9]|30)/(0?[469]|11)))"
             + "(\\_([01]?[0-9]|2[0-3]):([0-5][0-9]))";
 
+    /** Minute of year given to date times that are not in DD/MM(_HH:mm) format, so that they come last. */
+    public static final int UNKNOWN_MINUTE_OF_YEAR = Integer.MAX_VALUE;
+
+    public static final int DAYS_PER_YEAR = 365;
+
+    private static final int NON_LEAP_YEAR = 2018;
+
     public final String dateTimeString;
+    private final int minuteOfYear;
 
+    /**
+     * Constructs a {@code DateTime}.
+     *
+     * @param dateTimeString A date time in DD/MM(_HH:mm) format.
+     */
     public DateTime(String dateTimeString) {
         //requireNonNull(dateTime);
         //dateTimeString = dateTime;
         this.dateTimeString = dateTimeString;
+        this.minuteOfYear = toMinuteOfYear(dateTimeString);
     }
 
     /**
@@ -47,6 +69,70 @@ public class DateTime {
         return test.matches(END_DATETIME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the number of minutes from the start of a non-leap year to this date time, parsed once on
+     * construction. A date time without a time of day is taken to be at 00:00.
+     * Returns {@link #UNKNOWN_MINUTE_OF_YEAR} if this date time is not in DD/MM(_HH:mm) format.
+     */
+    public int getMinuteOfYear() {
+        return minuteOfYear;
+    }
+
+    /**
+     * Returns the day of a non-leap year, counted from 0, with the same day and month as {@code date}, in the terms
+     * of {@link #getMinuteOfYear()}. 29 February is taken as 28 February.
+     */
+    public static int toDayOfYear(LocalDate date) {
+        int dayOfMonth = date.getMonth() == Month.FEBRUARY ? Math.min(date.getDayOfMonth(), 28) : date.getDayOfMonth();
+        return LocalDate.of(NON_LEAP_YEAR, date.getMonth(), dayOfMonth).getDayOfYear() - 1;
+    }
+
+    /**
+     * Returns the first time on or after {@code from} that has this day, month and time of day, as date times do
+     * not record a year. Returns an empty {@code Optional} if this date time is not in DD/MM(_HH:mm) format.
+     */
+    public Optional<LocalDateTime> getNextOccurrence(LocalDateTime from) {
+        Optional<LocalDateTime> occurrence = atYear(from.getYear());
+        if (occurrence.isPresent() && occurrence.get().isBefore(from)) {
+            return atYear(from.getYear() + 1);
+        }
+        return occurrence;
+    }
+
+    /**
+     * Returns the time in {@code year} that has this day, month and time of day. Later date times of a year are
+     * always later times in it. Returns an empty {@code Optional} if this date time is not in DD/MM(_HH:mm) format.
+     */
+    public Optional<LocalDateTime> atYear(int year) {
+        if (minuteOfYear == UNKNOWN_MINUTE_OF_YEAR) {
+            return Optional.empty();
+        }
+        MonthDay monthDay = MonthDay.from(LocalDate.ofYearDay(NON_LEAP_YEAR, minuteOfYear / MINUTES_PER_DAY + 1));
+        return Optional.of(monthDay.atYear(year).atStartOfDay().plusMinutes(minuteOfYear % MINUTES_PER_DAY));
+    }
+
+    /**
+     * Returns the minute of year of {@code dateTime}, or {@link #UNKNOWN_MINUTE_OF_YEAR} if it cannot be parsed.
+     */
+    private static int toMinuteOfYear(String dateTime) {
+        if (dateTime == null || !isValidStartDateTime(dateTime)) {
+            return UNKNOWN_MINUTE_OF_YEAR;
+        }
+
+        int slash = dateTime.indexOf('/');
+        int underscore = dateTime.indexOf('_');
+        int day = Integer.parseInt(dateTime.substring(0, slash));
+        int month = Integer.parseInt(dateTime.substring(slash + 1, underscore == -1 ? dateTime.length() : underscore));
+        int minuteOfDay = 0;
+        if (underscore != -1) {
+            int colon = dateTime.indexOf(':', underscore);
+            minuteOfDay = Integer.parseInt(dateTime.substring(underscore + 1, colon)) * 60
+                    + Integer.parseInt(dateTime.substring(colon + 1));
+        }
+        int dayOfYear = Month.of(month).firstDayOfYear(false) + day - 1;
+        return (dayOfYear - 1) * MINUTES_PER_DAY + minuteOfDay;
+    }
+
     @Override
     public String toString() {
         return dateTimeString;
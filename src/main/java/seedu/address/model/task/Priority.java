@@ -13,11 +13,18 @@ public class Priority {
     public static final String PRIORITY_VALIDATION_REGEX = "HIGH|high|MED|med|LOW|low";
 
     public final String priorityString;
+    private final int rank;
 
+    /**
+     * Constructs a {@code Priority}.
+     *
+     * @param priority A valid priority.
+     */
     public Priority(String priority) {
         requireNonNull(priority);
         checkArgument(isValidPriority(priority), MESSAGE_PRIORITY_CONSTRAINTS);
         priorityString = priority;
+        rank = toRank(priority);
         //this.priorityString = priorityString;
     }
 
@@ -28,6 +35,27 @@ public class Priority {
         return test.matches(PRIORITY_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns how urgent this priority is. A smaller rank is more urgent.
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the rank of a valid priority string: 0 for high, 1 for medium and 2 for low.
+     */
+    private static int toRank(String priority) {
+        switch (priority.toUpperCase()) {
+        case "HIGH":
+            return 0;
+        case "MED":
+            return 1;
+        default:
+            return 2;
+        }
+    }
+
     @Override
     public String toString() {
         return priorityString;
@@ -2,8 +2,6 @@ package seedu.address.model.task;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -20,7 +18,7 @@ public class Task {
     private final DateTime startDateTime;
     private final DateTime endDateTime;
     private final Priority priority;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -33,7 +31,7 @@ public class Task {
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
         this.priority = priority;
-        this.tags.addAll(tags);
+        this.tags = Tag.internAll(tags);
     }
 
     public TaskName getTaskName() {
@@ -61,7 +59,7 @@ public class Task {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
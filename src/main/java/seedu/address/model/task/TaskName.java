@@ -3,6 +3,12 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Task's name in the task list.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +24,8 @@ public class TaskName {
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    /** Case-folded words of the name. */
+    private final String[] foldedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -28,6 +36,7 @@ public class TaskName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
         fullName = name;
+        foldedWords = StringUtil.toFoldedWords(name).toArray(new String[0]);
     }
 
     /**
@@ -37,6 +46,21 @@ public class TaskName {
         return test.matches(NAME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if {@code foldedWord}, a word with its case folded by {@link StringUtil#foldCase(String)}, is one of
+     * the words of the name.
+     */
+    public boolean containsFoldedWord(String foldedWord) {
+        return StringUtil.containsWord(foldedWords, foldedWord);
+    }
+
+    /**
+     * Returns the words of the name with their case folded, in order, as an unmodifiable list.
+     */
+    public List<String> getFoldedWords() {
+        return Collections.unmodifiableList(Arrays.asList(foldedWords));
+    }
+
 
     @Override
     public String toString() {
@@ -0,0 +1,144 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the tasks in an observable task list by the minute of the year they start at, kept in a sorted map.
+ * A task takes up the time from its start to its end, wrapping round the end of the year if it ends on an earlier
+ * day than it starts. A task that ends on the day it starts, but not after its start, takes up no time and is left
+ * out, as is a task whose date times are not in DD/MM(_HH:mm) format.
+ *
+ * The longest time taken up by a task is kept as well, so the tasks under way in a period are found by reading the
+ * starts from that long before the period, which come out of the map already in order of their start.
+ */
+public class TaskTimeIndex {
+
+    private static final int MINUTES_PER_YEAR = DateTime.DAYS_PER_YEAR * MINUTES_PER_DAY;
+
+    private final NavigableMap<Integer, List<Task>> tasksByStart = new TreeMap<>();
+    /** Number of tasks in the index taking up each number of minutes. */
+    private final NavigableMap<Integer, Integer> durationCounts = new TreeMap<>();
+    /**
+     * Held so that the list, which may be a view listening only weakly to its backing list, lives as long as
+     * this index.
+     */
+    private final ObservableList<Task> tasks;
+
+    /**
+     * Creates an index of {@code tasks}, which is then kept up to date with the list.
+     */
+    public TaskTimeIndex(ObservableList<Task> tasks) {
+        requireNonNull(tasks);
+        this.tasks = tasks;
+        tasks.forEach(this::add);
+        tasks.addListener(this::handleListChange);
+    }
+
+    /**
+     * Returns the tasks under way at some time from {@code fromMinuteOfYear} up to but excluding
+     * {@code toMinuteOfYear}, in the terms of {@link DateTime#getMinuteOfYear()}, ordered by their start.
+     * Tasks that started in the previous year and wrap round into the period come first.
+     * The period must not go past the end of the year.
+     */
+    public List<Task> getTasksDuring(int fromMinuteOfYear, int toMinuteOfYear) {
+        List<Task> tasksDuring = new ArrayList<>();
+        if (durationCounts.isEmpty() || fromMinuteOfYear >= toMinuteOfYear) {
+            return tasksDuring;
+        }
+
+        // a task under way in the period starts after this minute, or after it in the previous year
+        int earliestStart = fromMinuteOfYear - durationCounts.lastKey();
+        if (earliestStart < 0) {
+            addTasksEndingAfter(tasksByStart.subMap(Math.max(earliestStart + MINUTES_PER_YEAR, toMinuteOfYear - 1),
+                    false, MINUTES_PER_YEAR, false), fromMinuteOfYear + MINUTES_PER_YEAR, tasksDuring);
+        }
+        addTasksEndingAfter(tasksByStart.subMap(earliestStart, false, toMinuteOfYear, false), fromMinuteOfYear,
+                tasksDuring);
+        return tasksDuring;
+    }
+
+    /**
+     * Adds the tasks in {@code tasksAtStarts} that end after {@code minute} to {@code tasksDuring}, in order of their
+     * start. {@code minute} may be past the end of the year, for tasks that wrap round into the next year.
+     */
+    private static void addTasksEndingAfter(Map<Integer, List<Task>> tasksAtStarts, int minute,
+            List<Task> tasksDuring) {
+        for (Map.Entry<Integer, List<Task>> tasksAtStart : tasksAtStarts.entrySet()) {
+            for (Task task : tasksAtStart.getValue()) {
+                if (tasksAtStart.getKey() + getDuration(task) > minute) {
+                    tasksDuring.add(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of minutes taken up by {@code task}, which is not positive if it takes up no time.
+     */
+    private static int getDuration(Task task) {
+        int start = task.getStartDateTime().getMinuteOfYear();
+        int end = task.getEndDateTime().getMinuteOfYear();
+        if (start == DateTime.UNKNOWN_MINUTE_OF_YEAR || end == DateTime.UNKNOWN_MINUTE_OF_YEAR) {
+            return 0;
+        }
+        if (start / MINUTES_PER_DAY == end / MINUTES_PER_DAY) {
+            return end - start;
+        }
+        return Math.floorMod(end - start, MINUTES_PER_YEAR);
+    }
+
+    /**
+     * Updates the index with the tasks removed from and added to the list.
+     */
+    private void handleListChange(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Task task) {
+        int duration = getDuration(task);
+        if (duration <= 0) {
+            return;
+        }
+        tasksByStart.computeIfAbsent(task.getStartDateTime().getMinuteOfYear(), unused -> new ArrayList<>())
+                .add(task);
+        durationCounts.merge(duration, 1, Integer::sum);
+    }
+
+    /**
+     * Takes {@code task} itself, rather than an equal task, out of the index.
+     */
+    private void remove(Task task) {
+        int duration = getDuration(task);
+        if (duration <= 0) {
+            return;
+        }
+        int start = task.getStartDateTime().getMinuteOfYear();
+        List<Task> tasksAtStart = tasksByStart.get(start);
+        for (int i = 0; i < tasksAtStart.size(); i++) {
+            if (tasksAtStart.get(i) == task) {
+                tasksAtStart.remove(i);
+                break;
+            }
+        }
+        if (tasksAtStart.isEmpty()) {
+            tasksByStart.remove(start);
+        }
+        durationCounts.computeIfPresent(duration, (unused, count) -> count == 1 ? null : count - 1);
+    }
+}
@@ -3,13 +3,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.task.expections.DuplicateTaskException;
 import seedu.address.model.task.expections.TaskNotFoundException;
+import seedu.address.model.util.OrderedObservableList;
 
 //@@author luhan02
 /**
@@ -18,20 +24,28 @@ import seedu.address.model.task.expections.TaskNotFoundException;
  * tasks uses Task#isSameTask(Task) for equality so as to ensure that the task being added or updated is
  * unique in terms of identity in the UniqueTaskList.
  *
+ * Tasks are kept ordered by priority and then by deadline. Each add, update or removal places the task by binary
+ * search and is reported to listeners as a single change. Identity checks use a hash index on name and body.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private static final Comparator<Task> PRIORITY_THEN_DEADLINE =
+            Comparator.comparingInt((Task task) -> task.getPriority().getRank())
+                    .thenComparingInt(task -> task.getEndDateTime().getMinuteOfYear());
+
+    private final OrderedObservableList<Task> internalList = new OrderedObservableList<>(PRIORITY_THEN_DEADLINE);
+    private final Map<IdentityKey, Task> identityIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return identityIndex.containsKey(IdentityKey.of(toCheck));
     }
 
     /**
@@ -43,8 +57,16 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
-        sortPriority(internalList);
+        identityIndex.put(IdentityKey.of(toAdd), toAdd);
+        internalList.insert(toAdd);
+    }
+
+    /**
+     * Returns the position of the task equal to {@code task} in the list, or -1 if there is none.
+     */
+    public int indexOf(Task task) {
+        requireNonNull(task);
+        return internalList.find(task);
     }
 
     /**
@@ -55,16 +77,20 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task updatedTask) {
         requireAllNonNull(target, updatedTask);
 
-        int index = internalList.indexOf(target);
+        int index = internalList.find(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
 
-        if (!target.isSameTask(updatedTask) && contains(updatedTask)) {
+        Task stored = internalList.get(index);
+        Task holder = identityIndex.get(IdentityKey.of(updatedTask));
+        if (holder != null && holder != stored) {
             throw new DuplicateTaskException();
         }
 
-        internalList.set(index, updatedTask);
+        identityIndex.remove(IdentityKey.of(stored));
+        identityIndex.put(IdentityKey.of(updatedTask), updatedTask);
+        internalList.replace(index, updatedTask);
     }
 
     /**
@@ -73,14 +99,21 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.find(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+
+        identityIndex.remove(IdentityKey.of(internalList.get(index)));
+        internalList.remove(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setTasks(replacement.internalList);
     }
 
     /**
@@ -93,7 +126,11 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalList.setAll(tasks);
+        identityIndex.clear();
+        for (Task task : tasks) {
+            identityIndex.put(IdentityKey.of(task), task);
+        }
+        internalList.setAllSorted(tasks);
     }
 
     /**
@@ -103,48 +140,6 @@ public class UniqueTaskList implements Iterable<Task> {
         return FXCollections.unmodifiableObservableList(internalList);
     }
 
-    /**
-     * List of tasks to be sorted according to its deadline(end DateTime)
-     */
-    public void sort() {
-        internalList.sort(((o1, o2) -> {
-            String o1DateStr = this.trimTime(o1.getEndDateTime().dateTimeString);
-            int o1Month = this.getMonth(o1DateStr);
-            int o1Day = this.getDay(o1DateStr);
-
-            String o2DateStr = this.trimTime(o2.getEndDateTime().dateTimeString);
-            int o2Month = this.getMonth(o2DateStr);
-            int o2Day = this.getDay(o2DateStr);
-
-            if (o1Month > o2Month) {
-                return 1;
-            }
-            if (o1Month == o2Month) {
-                if (o1Day == o2Day) {
-                    return 0;
-                } else if (o1Day > o2Day) {
-                    return 1;
-                } else {
-                    return -1;
-                }
-            }
-            return -1;
-        }));
-    }
-
-    private String trimTime(String datetimeStr) {
-        int underScoreIndex = datetimeStr.indexOf("_");
-        return datetimeStr.substring(0, underScoreIndex);
-    }
-
-    private int getMonth(String dateStr) {
-        return Integer.parseInt(dateStr.split("\\/")[1]);
-    }
-
-    private int getDay(String dateStr) {
-        return Integer.parseInt(dateStr.split("\\/")[0]);
-    }
-
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
@@ -166,39 +161,43 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<IdentityKey> seen = new HashSet<>();
+        for (Task task : tasks) {
+            if (!seen.add(IdentityKey.of(task))) {
+                return false;
             }
         }
         return true;
     }
 
     /**
-     * @param internalList list of tasks to be sorted according to its priority
+     * Hash key over the identity fields of a {@code Task}.
+     * Two tasks are the same task iff their keys are equal.
      */
-    private void sortPriority(ObservableList<Task> internalList) {
-        FXCollections.sort(internalList, new Comparator<Task>() {
-            @Override
-            public int compare(Task t1, Task t2) {
-                String p1 = t1.getPriority().priorityString;
-                String p2 = t2.getPriority().priorityString;
-
-                if (p1.equals(p2)) {
-                    return 0;
-                }
-                if ((p1.equals("HIGH") || p1.equals("high")) && ((p2.equals("MED") || p2.equals("med"))
-                        || (p2.equals("LOW") || p2.equals("low")))) {
-                    return -1;
-                }
-                if ((p1.equals("MED") || p1.equals("med")) && (p2.equals("LOW") || p2.equals("low"))) {
-                    return -1;
-                }
-                return 2;
-            }
-        });
-    }
+    private static class IdentityKey {
+        private final TaskName taskName;
+        private final Body body;
 
+        private IdentityKey(TaskName taskName, Body body) {
+            this.taskName = taskName;
+            this.body = body;
+        }
+
+        static IdentityKey of(Task task) {
+            return new IdentityKey(task.getTaskName(), task.getBody());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof IdentityKey // instanceof handles nulls
+                    && taskName.equals(((IdentityKey) other).taskName)
+                    && body.equals(((IdentityKey) other).body));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(taskName, body);
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by a plain array, for the small sets of tags or contacts held by each entry.
+ * It takes a fraction of the memory of a {@code HashSet} and is just as fast for a handful of elements.
+ * Elements are iterated in the same order as a {@code HashSet} of the same elements.
+ */
+public class ArraySet<T> extends AbstractSet<T> {
+
+    private final Object[] elements;
+
+    /**
+     * Creates a set of the distinct elements of {@code elements}, which must not contain nulls.
+     */
+    public ArraySet(Collection<? extends T> elements) {
+        requireAllNonNull(elements);
+        this.elements = new HashSet<>(elements).toArray();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Object element : elements) {
+            if (element.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (T) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, elements.length);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,239 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Undo/redo history of a list, kept as the edits made between consecutive committed states instead of as copies
+ * of every state. Committing costs time and memory proportional to the edits made since the last commit, and
+ * moving between states only replays the edits in between.
+ *
+ * The owner of the history records every edit it makes to its list, and gives the history a callback that applies
+ * an edit to that list. Undo and redo apply the edits that lead to the wanted state through that callback; edits
+ * made while they do so are not recorded again.
+ *
+ * The history is bounded by a maximum number of states to undo to and by a budget on its estimated size in bytes.
+ * When a commit goes over either bound, the oldest states are forgotten, although the latest commit is always kept.
+ */
+public class EditHistory<T> {
+
+    /** Rough size of an edit and its lists, excluding the elements. */
+    static final long EDIT_BYTES = 64;
+    /** Rough size of one element referred to by an edit, assuming the history is the only thing keeping it alive. */
+    static final long ELEMENT_BYTES = 256;
+
+    /** Edits that lead from state {@code i} to state {@code i + 1}, at position {@code i}. */
+    private final List<List<ListEdit<T>>> committedEdits = new ArrayList<>();
+    private final List<Long> committedBytes = new ArrayList<>();
+    private final Consumer<ListEdit<T>> applier;
+    private final int maxStates;
+    private final long maxBytes;
+    private List<ListEdit<T>> pendingEdits = new ArrayList<>();
+    private int currentStatePointer = 0;
+    private long estimatedBytes = 0;
+    private boolean isReplaying = false;
+
+    public EditHistory(Consumer<ListEdit<T>> applier) {
+        this(applier, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a history that applies edits with {@code applier} and keeps at most {@code maxStates} states to undo
+     * to, in an estimated {@code maxBytes}.
+     */
+    public EditHistory(Consumer<ListEdit<T>> applier, int maxStates, long maxBytes) {
+        requireNonNull(applier);
+        checkArgument(maxStates >= 0, "The number of undoable states cannot be negative.");
+        checkArgument(maxBytes >= 0, "The undo history size cannot be negative.");
+        this.applier = applier;
+        this.maxStates = maxStates;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records {@code edit} as made to the current state since it was committed.
+     * Edits that change nothing, and edits made while the history is undoing or redoing, are not recorded.
+     */
+    public void record(ListEdit<T> edit) {
+        requireNonNull(edit);
+        if (!isReplaying && !edit.getRemoved().equals(edit.getAdded())) {
+            pendingEdits.add(edit);
+        }
+    }
+
+    /**
+     * Saves the edits made since the last commit as a new state at the end of the history.
+     * Undone states are removed from the history, and so are the oldest states if the history is over its bounds.
+     */
+    public void commit() {
+        while (canRedo()) {
+            estimatedBytes -= committedBytes.remove(committedBytes.size() - 1);
+            committedEdits.remove(committedEdits.size() - 1);
+        }
+
+        long bytes = estimateBytes(pendingEdits);
+        committedEdits.add(Collections.unmodifiableList(pendingEdits));
+        committedBytes.add(bytes);
+        estimatedBytes += bytes;
+        pendingEdits = new ArrayList<>();
+        currentStatePointer++;
+
+        while (currentStatePointer > maxStates || (estimatedBytes > maxBytes && currentStatePointer > 1)) {
+            forgetOldestState();
+        }
+    }
+
+    /**
+     * Forgets the oldest state, so that the state after it becomes the oldest one.
+     */
+    private void forgetOldestState() {
+        committedEdits.remove(0);
+        estimatedBytes -= committedBytes.remove(0);
+        currentStatePointer--;
+    }
+
+    /**
+     * Discards the edits made since the last commit and moves to the previous state.
+     *
+     * @throws NoSuchElementException if there is no previous state.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoSuchElementException("No state to undo.");
+        }
+        replay(() -> {
+            discardPendingEdits();
+            currentStatePointer--;
+            applyAll(inverseOf(committedEdits.get(currentStatePointer)));
+        });
+    }
+
+    /**
+     * Discards the edits made since the last commit and moves to the next state.
+     *
+     * @throws NoSuchElementException if there is no next state.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoSuchElementException("No state to redo.");
+        }
+        replay(() -> {
+            discardPendingEdits();
+            currentStatePointer++;
+            applyAll(committedEdits.get(currentStatePointer - 1));
+        });
+    }
+
+    /**
+     * Returns true if there is a previous state to undo to.
+     */
+    public boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    /**
+     * Returns true if there is an undone state to redo to.
+     */
+    public boolean canRedo() {
+        return currentStatePointer < committedEdits.size();
+    }
+
+    public int getCurrentStatePointer() {
+        return currentStatePointer;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by the committed edits.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns every committed state in the history, oldest first, rebuilt from {@code currentState}.
+     * {@code copier} copies a state and {@code applier} applies an edit to such a copy; {@code currentState} itself
+     * is not changed. This copies the state once per committed state, so it is only meant for comparing histories.
+     */
+    public <S> List<S> rebuildStates(S currentState, UnaryOperator<S> copier, BiConsumer<S, ListEdit<T>> applier) {
+        S committedState = copier.apply(currentState);
+        inverseOf(pendingEdits).forEach(edit -> applier.accept(committedState, edit));
+
+        List<S> states = new ArrayList<>();
+        S state = committedState;
+        for (int i = currentStatePointer - 1; i >= 0; i--) {
+            state = copier.apply(state);
+            for (ListEdit<T> edit : inverseOf(committedEdits.get(i))) {
+                applier.accept(state, edit);
+            }
+            states.add(0, state);
+        }
+        states.add(committedState);
+        state = committedState;
+        for (int i = currentStatePointer; i < committedEdits.size(); i++) {
+            state = copier.apply(state);
+            for (ListEdit<T> edit : committedEdits.get(i)) {
+                applier.accept(state, edit);
+            }
+            states.add(state);
+        }
+        return states;
+    }
+
+    /**
+     * Reverts the edits made since the last commit.
+     */
+    private void discardPendingEdits() {
+        List<ListEdit<T>> discardedEdits = pendingEdits;
+        pendingEdits = new ArrayList<>();
+        applyAll(inverseOf(discardedEdits));
+    }
+
+    /**
+     * Runs {@code replayAction} without recording the edits it makes.
+     */
+    private void replay(Runnable replayAction) {
+        isReplaying = true;
+        try {
+            replayAction.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Applies {@code edits} in order.
+     */
+    private void applyAll(List<ListEdit<T>> edits) {
+        edits.forEach(applier);
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by {@code edits}.
+     */
+    private static <T> long estimateBytes(List<ListEdit<T>> edits) {
+        long bytes = 0;
+        for (ListEdit<T> edit : edits) {
+            bytes += EDIT_BYTES + ELEMENT_BYTES * (edit.getRemoved().size() + edit.getAdded().size());
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the edits that undo {@code edits}, in the order they should be applied.
+     */
+    private static <T> List<ListEdit<T>> inverseOf(List<ListEdit<T>> edits) {
+        List<ListEdit<T>> inverse = new ArrayList<>(edits.size());
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            inverse.add(edits.get(i).inverse());
+        }
+        return inverse;
+    }
+}
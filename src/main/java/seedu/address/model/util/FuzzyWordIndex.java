@@ -0,0 +1,189 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from words to the entries of an observable list that contain them, kept as an {@link InvertedIndex},
+ * which can also find the indexed words that are within a small edit distance of a given word.
+ *
+ * Every indexed word is broken into its trigrams, the three-character substrings of the word padded at both ends,
+ * and each trigram is mapped to the words that contain it. A word within edit distance {@code d} of another word
+ * shares all but at most {@code 3d} of its trigrams with it, so only the words that share enough trigrams with the
+ * word searched for are compared with it, instead of every indexed word.
+ */
+public class FuzzyWordIndex<T> {
+
+    private static final String PADDING = "$$";
+
+    private final InvertedIndex<String, T> wordIndex;
+    private final Function<? super T, ? extends Collection<String>> wordsOf;
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Creates an index of {@code list}, where {@code wordsOf} gives the words of an entry.
+     */
+    public FuzzyWordIndex(ObservableList<T> list, Function<? super T, ? extends Collection<String>> wordsOf) {
+        requireAllNonNull(list, wordsOf);
+        this.wordsOf = wordsOf;
+        // registered before the listener below, so the word index is already up to date when that listener runs
+        wordIndex = new InvertedIndex<>(list, wordsOf);
+        list.forEach(this::indexWordsOf);
+        list.addListener(this::handleListChange);
+    }
+
+    /**
+     * Returns the largest edit distance at which a word of {@code length} characters is still considered similar.
+     * Very short words must match exactly, as a single edit already turns them into a mostly different word.
+     */
+    public static int maxDistanceFor(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns an unmodifiable view of the entries that contain {@code word}.
+     */
+    public Set<T> get(String word) {
+        return wordIndex.get(word);
+    }
+
+    /**
+     * Returns the entries that contain any of {@code words}, as a set that compares entries by identity.
+     *
+     * @see InvertedIndex#getAny(Collection)
+     */
+    public Set<T> getAny(Collection<String> words) {
+        return wordIndex.getAny(words);
+    }
+
+    /**
+     * Returns the indexed words within {@link #maxDistanceFor(int)} edits of {@code word}, each mapped to its edit
+     * distance from {@code word}, closest words first.
+     */
+    public Map<String, Integer> findSimilar(String word) {
+        requireNonNull(word);
+        int maxDistance = maxDistanceFor(word.length());
+        Set<String> trigrams = trigramsOf(word);
+        int minSharedTrigrams = trigrams.size() - 3 * maxDistance;
+
+        Collection<String> candidates;
+        if (minSharedTrigrams > 0) {
+            candidates = wordsSharingTrigrams(trigrams, minSharedTrigrams);
+        } else {
+            // the trigrams cannot rule out any word, which only happens for repetitive words such as "ababab"
+            candidates = new HashSet<>();
+            wordsByTrigram.values().forEach(candidates::addAll);
+        }
+
+        List<String> similarWords = new ArrayList<>();
+        Map<String, Integer> distances = new HashMap<>();
+        for (String candidate : candidates) {
+            if (Math.abs(candidate.length() - word.length()) > maxDistance) {
+                continue;
+            }
+            int distance = StringUtil.editDistance(word, candidate);
+            if (distance <= maxDistance) {
+                similarWords.add(candidate);
+                distances.put(candidate, distance);
+            }
+        }
+        similarWords.sort(Comparator.<String, Integer>comparing(distances::get)
+                .thenComparing(Comparator.naturalOrder()));
+
+        Map<String, Integer> similar = new LinkedHashMap<>();
+        similarWords.forEach(similarWord -> similar.put(similarWord, distances.get(similarWord)));
+        return similar;
+    }
+
+    /**
+     * Returns the indexed words that contain at least {@code minShared} of {@code trigrams}.
+     */
+    private List<String> wordsSharingTrigrams(Set<String> trigrams, int minShared) {
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                sharedCounts.merge(word, 1, Integer::sum);
+            }
+        }
+
+        List<String> words = new ArrayList<>();
+        sharedCounts.forEach((word, count) -> {
+            if (count >= minShared) {
+                words.add(word);
+            }
+        });
+        return words;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded at both ends, so that even a one-character word has some.
+     */
+    static Set<String> trigramsOf(String word) {
+        String padded = PADDING + word + PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Updates the trigrams with the words that the list change added, and with the words it removed that are no
+     * longer in any entry.
+     */
+    private void handleListChange(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindexWordsOf);
+            change.getAddedSubList().forEach(this::indexWordsOf);
+        }
+    }
+
+    /**
+     * Adds the words of {@code entry} to the trigrams, if they are not there yet.
+     */
+    private void indexWordsOf(T entry) {
+        for (String word : wordsOf.apply(entry)) {
+            trigramsOf(word).forEach(trigram -> wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>())
+                    .add(word));
+        }
+    }
+
+    /**
+     * Drops the words of {@code entry} that no entry in the word index contains any more from the trigrams.
+     */
+    private void unindexWordsOf(T entry) {
+        for (String word : wordsOf.apply(entry)) {
+            if (!wordIndex.get(word).isEmpty()) {
+                continue;
+            }
+            for (String trigram : trigramsOf(word)) {
+                Set<String> words = wordsByTrigram.get(trigram);
+                if (words != null && words.remove(word) && words.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+}
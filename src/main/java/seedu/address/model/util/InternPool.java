@@ -0,0 +1,47 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical, immutable values keyed by their name, so that equal values share one instance.
+ * Values are only weakly held: once no one else refers to a value, it is dropped from the pool.
+ */
+public class InternPool<T> {
+
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates a pool that makes new values with {@code factory}.
+     * The value made for a name must keep a reference to that name, which keeps its pool entry alive.
+     */
+    public InternPool(Function<String, T> factory) {
+        this.factory = requireNonNull(factory);
+    }
+
+    /**
+     * Returns the canonical value for {@code name}, making and pooling it if there is none.
+     */
+    public synchronized T intern(String name) {
+        requireNonNull(name);
+        WeakReference<T> reference = pool.get(name);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(name);
+            pool.put(name, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool, including ones that are about to be dropped.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index from keys, such as tags or words, to the entries of an observable list that have them.
+ * The index listens to the list, so it follows every add, edit, removal, undo and restore of the list with work
+ * proportional to the entries changed. Looking up keys takes time proportional to the number of entries found.
+ */
+public class InvertedIndex<K, T> {
+
+    /**
+     * For each key, the entries that have it, compared by identity, with the number of times each entry has it.
+     * Equal entries are kept apart, so that each of them can be told from the others in the list.
+     */
+    private final Map<K, Map<T, Integer>> postings = new HashMap<>();
+    private final Function<? super T, ? extends Collection<? extends K>> keysOf;
+    /**
+     * Held so that the list, which may be a view listening only weakly to its backing list, lives as long as
+     * this index.
+     */
+    private final ObservableList<T> list;
+
+    /**
+     * Creates an index of {@code list}, where {@code keysOf} gives the keys of an entry.
+     */
+    public InvertedIndex(ObservableList<T> list, Function<? super T, ? extends Collection<? extends K>> keysOf) {
+        requireAllNonNull(list, keysOf);
+        this.keysOf = keysOf;
+        this.list = list;
+        list.forEach(this::index);
+        list.addListener(this::handleListChange);
+    }
+
+    /**
+     * Returns an unmodifiable view of the entries with {@code key}, which compares entries by identity.
+     */
+    public Set<T> get(K key) {
+        Map<T, Integer> entries = postings.get(key);
+        return entries == null ? Collections.emptySet() : Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns the entries with any of {@code keys}, as a set that compares entries by identity.
+     * The set is a copy, so it does not change with the list.
+     */
+    public Set<T> getAny(Collection<? extends K> keys) {
+        Set<T> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (K key : keys) {
+            entries.addAll(get(key));
+        }
+        return entries;
+    }
+
+    /**
+     * Updates the index with the entries removed from and added to the list.
+     * Reordering the list does not change the index.
+     */
+    private void handleListChange(ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::unindex);
+            change.getAddedSubList().forEach(this::index);
+        }
+    }
+
+    private void index(T entry) {
+        for (K key : keysOf.apply(entry)) {
+            postings.computeIfAbsent(key, unused -> new IdentityHashMap<>()).merge(entry, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes one appearance of {@code entry} from the index, dropping keys that no longer have any entries.
+     */
+    private void unindex(T entry) {
+        for (K key : keysOf.apply(entry)) {
+            Map<T, Integer> entries = postings.get(key);
+            if (entries == null) {
+                continue;
+            }
+            entries.computeIfPresent(entry, (unused, count) -> count == 1 ? null : count - 1);
+            if (entries.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
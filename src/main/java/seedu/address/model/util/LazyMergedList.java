@@ -0,0 +1,174 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Supplier;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable observable list of the entries of several sorted sources merged into one order, such as the items
+ * of several books merged by date.
+ *
+ * The sources are merged lazily: the list keeps a heap of the next entry of each source, and only takes entries off
+ * it when a row that has not been looked at yet is asked for, so reading the first rows of the list, as a list view
+ * showing them does, costs time proportional to the number of rows read times the logarithm of the number of
+ * sources rather than to the size of the sources. The rows read so far are kept, so reading them again is cheap.
+ *
+ * Any change of a source starts the merge again from the first row, and is passed on to the listeners of this list
+ * as a replacement of all of its rows.
+ */
+public class LazyMergedList<T> extends ObservableListBase<T> {
+
+    private final Comparator<? super T> order;
+    private final List<ObservableList<?>> sourceLists = new ArrayList<>();
+    private final List<Supplier<? extends Iterator<? extends T>>> sortedIterators = new ArrayList<>();
+    /** The rows merged so far, which are the first rows of the list. */
+    private final List<T> mergedRows = new ArrayList<>();
+    /** The next entry of each source that is not used up, or null if the merge has not started since the reset. */
+    private PriorityQueue<Head<T>> heads;
+    private int size;
+
+    /**
+     * Creates an empty list whose rows are merged in {@code order}.
+     */
+    public LazyMergedList(Comparator<? super T> order) {
+        this.order = requireNonNull(order);
+    }
+
+    /**
+     * Merges the entries given by {@code sortedIterator} into this list, and starts the merge again whenever
+     * {@code list} changes.
+     * {@code sortedIterator} must give one entry for each element of {@code list}, in {@code order}, and must already
+     * reflect a change of {@code list} when the listeners of {@code list} are told about it, for example by reading
+     * {@code list} itself or a structure that started listening to {@code list} before this source was added.
+     */
+    public void addSource(ObservableList<?> list, Supplier<? extends Iterator<? extends T>> sortedIterator) {
+        requireAllNonNull(list, sortedIterator);
+        sourceLists.add(list);
+        sortedIterators.add(sortedIterator);
+        list.addListener(this::handleSourceChange);
+        restartMerge(size);
+    }
+
+    /**
+     * Returns the number of rows that have been merged since the merge last started.
+     */
+    public int getMergedCount() {
+        return mergedRows.size();
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (heads == null) {
+            startMerge();
+        }
+        while (mergedRows.size() <= index) {
+            Head<T> head = heads.poll();
+            mergedRows.add(head.entry);
+            if (head.rest.hasNext()) {
+                heads.add(new Head<>(head.rest.next(), head.sourceIndex, head.rest));
+            }
+        }
+        return mergedRows.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Fills the heap with the first entry of each source.
+     */
+    private void startMerge() {
+        heads = new PriorityQueue<>(Math.max(1, sortedIterators.size()), (first, second) -> {
+            int byOrder = order.compare(first.entry, second.entry);
+            return byOrder != 0 ? byOrder : Integer.compare(first.sourceIndex, second.sourceIndex);
+        });
+        for (int i = 0; i < sortedIterators.size(); i++) {
+            Iterator<? extends T> iterator = sortedIterators.get(i).get();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), i, iterator));
+            }
+        }
+    }
+
+    private void handleSourceChange(ListChangeListener.Change<?> change) {
+        restartMerge(size);
+    }
+
+    /**
+     * Drops the merged rows so that the merge starts again from the first row when a row is next read, and tells the
+     * listeners that the {@code oldSize} rows of the list were replaced.
+     */
+    private void restartMerge(int oldSize) {
+        List<T> oldRows = new RemovedRows<>(new ArrayList<>(mergedRows), oldSize);
+        mergedRows.clear();
+        heads = null;
+        size = sourceLists.stream().mapToInt(List::size).sum();
+
+        beginChange();
+        if (oldSize > 0) {
+            nextRemove(0, oldRows);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * The entry of a source that is merged next from that source, with the rest of the source after it.
+     */
+    private static class Head<T> {
+        private final T entry;
+        private final int sourceIndex;
+        private final Iterator<? extends T> rest;
+
+        Head(T entry, int sourceIndex, Iterator<? extends T> rest) {
+            this.entry = entry;
+            this.sourceIndex = sourceIndex;
+            this.rest = rest;
+        }
+    }
+
+    /**
+     * The rows of the list before a restart of the merge, as reported to listeners. Rows that had not been merged
+     * are no longer known, and are reported as null.
+     */
+    private static class RemovedRows<T> extends AbstractList<T> {
+        private final List<T> mergedRows;
+        private final int size;
+
+        RemovedRows(List<T> mergedRows, int size) {
+            this.mergedRows = mergedRows;
+            this.size = size;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return index < mergedRows.size() ? mergedRows.get(index) : null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable change to a list: the elements {@code removed}, starting at position {@code index}, are replaced by
+ * the elements {@code added}.
+ * An edit refers to the list elements themselves rather than to a copy of the list, so a history of edits shares
+ * every unchanged element with the live list.
+ */
+public class ListEdit<T> {
+
+    private final int index;
+    private final List<T> removed;
+    private final List<T> added;
+
+    private ListEdit(int index, List<T> removed, List<T> added) {
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns an edit that inserts {@code element} at position {@code index}.
+     */
+    public static <T> ListEdit<T> insertion(int index, T element) {
+        requireNonNull(element);
+        return new ListEdit<>(index, Collections.emptyList(), Collections.singletonList(element));
+    }
+
+    /**
+     * Returns an edit that removes {@code element} from position {@code index}.
+     */
+    public static <T> ListEdit<T> removal(int index, T element) {
+        requireNonNull(element);
+        return new ListEdit<>(index, Collections.singletonList(element), Collections.emptyList());
+    }
+
+    /**
+     * Returns an edit that replaces {@code oldElement} at position {@code index} with {@code newElement}.
+     */
+    public static <T> ListEdit<T> replacement(int index, T oldElement, T newElement) {
+        requireNonNull(oldElement);
+        requireNonNull(newElement);
+        return new ListEdit<>(index, Collections.singletonList(oldElement), Collections.singletonList(newElement));
+    }
+
+    /**
+     * Returns an edit that replaces all of {@code oldElements} with {@code newElements}.
+     * Both lists are copied, as they may be changed after this call.
+     */
+    public static <T> ListEdit<T> replacementOfAll(List<? extends T> oldElements, List<? extends T> newElements) {
+        return new ListEdit<>(0, Collections.unmodifiableList(new ArrayList<>(oldElements)),
+                Collections.unmodifiableList(new ArrayList<>(newElements)));
+    }
+
+    /**
+     * Returns the edit that reverses this edit.
+     */
+    public ListEdit<T> inverse() {
+        return new ListEdit<>(index, added, removed);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the elements removed by this edit as an unmodifiable list.
+     */
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the elements added by this edit as an unmodifiable list.
+     */
+    public List<T> getAdded() {
+        return added;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ListEdit)) {
+            return false;
+        }
+
+        ListEdit<?> otherEdit = (ListEdit<?>) other;
+        return index == otherEdit.index
+                && removed.equals(otherEdit.removed)
+                && added.equals(otherEdit.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "at " + index + " replace " + removed + " with " + added;
+    }
+}
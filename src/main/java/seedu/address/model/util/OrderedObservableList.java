@@ -0,0 +1,230 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} that keeps its elements in the order defined by a {@code Comparator}.
+ * Positions are found by binary search and every mutation is reported to listeners as a single change,
+ * so the list never has to be re-sorted as a whole. Elements that compare as equal keep their insertion order.
+ *
+ * Elements are added through {@link #insert(Object)} and changed through {@link #replace(int, Object)}.
+ * {@link #add(Object)}, and so {@code addAll} and {@code setAll}, insert each element at its place in the order.
+ * Adding or setting an element at a given position would break the order, so it is not supported.
+ */
+public class OrderedObservableList<T> extends ModifiableObservableListBase<T> {
+
+    private final List<T> elements = new ArrayList<>();
+    private final Comparator<? super T> comparator;
+
+    public OrderedObservableList(Comparator<? super T> comparator) {
+        this.comparator = requireNonNull(comparator);
+    }
+
+    /**
+     * Inserts {@code element} after every element that does not come after it, and returns its position.
+     */
+    public int insert(T element) {
+        requireNonNull(element);
+        int position = upperBound(element, 0, elements.size());
+        addAt(position, element);
+        return position;
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}, moving it if its place in the order changes,
+     * and returns its new position. Listeners are notified of a single change.
+     */
+    public int replace(int index, T element) {
+        requireNonNull(element);
+        int position = positionOfReplacement(index, element);
+        if (position == index) {
+            setAt(index, element);
+            return index;
+        }
+
+        beginChange();
+        try {
+            remove(index);
+            addAt(position, element);
+        } finally {
+            endChange();
+        }
+        return position;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code newElements} in sorted order.
+     * Input that is already sorted is handled in linear time.
+     */
+    public void setAllSorted(Collection<? extends T> newElements) {
+        List<T> sortedElements = new ArrayList<>(newElements);
+        sortedElements.sort(comparator);
+
+        beginChange();
+        try {
+            clear();
+            for (T element : sortedElements) {
+                addAt(elements.size(), element);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Inserts {@code element} at its place in the order, as {@link #insert(Object)} does.
+     */
+    @Override
+    public boolean add(T element) {
+        insert(element);
+        return true;
+    }
+
+    /**
+     * Not supported, as an element added at {@code index} could be out of order.
+     * Use {@link #insert(Object)} instead.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void add(int index, T element) {
+        throw new UnsupportedOperationException("Elements can only be inserted at their place in the order");
+    }
+
+    /**
+     * Not supported, as an element set at {@code index} could be out of order.
+     * Use {@link #replace(int, Object)} instead.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public T set(int index, T element) {
+        throw new UnsupportedOperationException("Elements can only be replaced through replace(int, Object)");
+    }
+
+    /**
+     * Returns the position of an element equal to {@code target}, or -1 if there is none.
+     * Only the elements that compare as equal to {@code target} are examined.
+     */
+    public int find(T target) {
+        requireNonNull(target);
+        for (int i = lowerBound(target, 0, elements.size()); i < elements.size(); i++) {
+            T candidate = elements.get(i);
+            if (comparator.compare(candidate, target) != 0) {
+                break;
+            }
+            if (candidate.equals(target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position {@code element} should take once it replaces the element at {@code index}.
+     * The element stays where it is if it still fits between its neighbours, and otherwise moves past
+     * as few elements as possible.
+     */
+    private int positionOfReplacement(int index, T element) {
+        if (index > 0 && comparator.compare(element, elements.get(index - 1)) < 0) {
+            return upperBound(element, 0, index);
+        }
+        if (index < elements.size() - 1 && comparator.compare(element, elements.get(index + 1)) > 0) {
+            return lowerBound(element, index + 1, elements.size()) - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the first position in [{@code from}, {@code to}) whose element does not come before {@code key}.
+     */
+    private int lowerBound(T key, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the first position in [{@code from}, {@code to}) whose element comes after {@code key}.
+     */
+    private int upperBound(T key, int from, int to) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Adds {@code element} at {@code index}, which must be its place in the order, and notifies listeners.
+     */
+    private void addAt(int index, T element) {
+        requireNonNull(element);
+        beginChange();
+        try {
+            doAdd(index, element);
+            nextAdd(index, index + 1);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Sets {@code element} at {@code index}, which must be its place in the order, and notifies listeners.
+     */
+    private void setAt(int index, T element) {
+        beginChange();
+        try {
+            nextSet(index, doSet(index, element));
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, T element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected T doSet(int index, T element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected T doRemove(int index) {
+        return elements.remove(index);
+    }
+}
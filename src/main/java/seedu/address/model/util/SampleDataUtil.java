@@ -137,7 +137,7 @@ public class SampleDataUtil {
      */
     public static Set<EventContacts> getEventContactSet(String... strings) {
         return Arrays.stream(strings)
-                .map(EventContacts::new)
+                .map(EventContacts::of)
                 .collect(Collectors.toSet());
     }
     //@@author
@@ -176,7 +176,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
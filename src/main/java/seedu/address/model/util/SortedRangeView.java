@@ -0,0 +1,185 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of one contiguous range of a sorted observable list, such as the entries between two dates
+ * or the first few entries from a date.
+ * Both ends of the range are found by binary search, so narrowing the view does not test every element of the list.
+ *
+ * Until a range is set, the view shows the whole list and passes every change of the list on as it is. While a range
+ * is set, each change of the list is passed on as a replacement of the range, which costs time proportional to the
+ * size of the range.
+ */
+public class SortedRangeView<T> extends ObservableListBase<T> {
+
+    private final ObservableList<? extends T> source;
+    private Predicate<? super T> isBeforeRange;
+    private Predicate<? super T> isAfterRange;
+    private int maxSize;
+    /** Copy of the range shown while a range is set, or null while the whole list is shown. */
+    private List<T> shownRange;
+    private int from;
+    private int to;
+
+    /**
+     * Creates a view of {@code source}, which must stay sorted, showing the whole list until a range is set.
+     */
+    public SortedRangeView(ObservableList<? extends T> source) {
+        this.source = requireNonNull(source);
+        to = source.size();
+        source.addListener(this::handleSourceChange);
+    }
+
+    /**
+     * Shows only the elements of the list from the first one for which {@code isBeforeRange} is false, up to but
+     * excluding the first one after it for which {@code isAfterRange} is true.
+     * {@code isBeforeRange} must hold for a prefix of the list and {@code isAfterRange} for a suffix of it, which is
+     * the case for bounds on the key the list is sorted by.
+     */
+    public void setRange(Predicate<? super T> isBeforeRange, Predicate<? super T> isAfterRange) {
+        requireAllNonNull(isBeforeRange, isAfterRange);
+        setRange(isBeforeRange, isAfterRange, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Shows at most {@code maxSize} elements of the list, from the first one for which {@code isBeforeRange} is
+     * false. {@code isBeforeRange} must hold for a prefix of the list.
+     */
+    public void setRange(Predicate<? super T> isBeforeRange, int maxSize) {
+        requireNonNull(isBeforeRange);
+        setRange(isBeforeRange, unused -> false, Math.max(maxSize, 0));
+    }
+
+    private void setRange(Predicate<? super T> isBeforeRange, Predicate<? super T> isAfterRange, int maxSize) {
+        List<T> oldRange = new ArrayList<>(this);
+        this.isBeforeRange = isBeforeRange;
+        this.isAfterRange = isAfterRange;
+        this.maxSize = maxSize;
+        updateRange();
+        fireRangeReplaced(oldRange);
+    }
+
+    /**
+     * Shows the whole list again.
+     */
+    public void clearRange() {
+        if (!isRangeSet()) {
+            return;
+        }
+        List<T> oldRange = shownRange;
+        isBeforeRange = null;
+        isAfterRange = null;
+        updateRange();
+        fireRangeReplaced(oldRange);
+    }
+
+    public boolean isRangeSet() {
+        return shownRange != null;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return source.get(from + index);
+    }
+
+    @Override
+    public int size() {
+        return to - from;
+    }
+
+    /**
+     * Finds the ends of the range in the list, and keeps a copy of the range if one is set.
+     */
+    private void updateRange() {
+        if (isBeforeRange == null) {
+            from = 0;
+            to = source.size();
+            shownRange = null;
+            return;
+        }
+        from = firstIndexFrom(0, isBeforeRange.negate());
+        to = from + Math.min(firstIndexFrom(from, isAfterRange) - from, maxSize);
+        shownRange = new ArrayList<>(this);
+    }
+
+    /**
+     * Returns the first index from {@code start} on whose element satisfies {@code condition}, or the size of the
+     * list if there is none. {@code condition} must hold for a suffix of the list.
+     */
+    private int firstIndexFrom(int start, Predicate<? super T> condition) {
+        int low = start;
+        int high = source.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (condition.test(source.get(middle))) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Passes a change of the list on to the listeners of this view.
+     */
+    private void handleSourceChange(ListChangeListener.Change<? extends T> change) {
+        if (isRangeSet()) {
+            List<T> oldRange = shownRange;
+            updateRange();
+            fireRangeReplaced(oldRange);
+            return;
+        }
+
+        updateRange();
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Notifies listeners that {@code oldRange} was replaced by what the view shows now.
+     */
+    private void fireRangeReplaced(List<T> oldRange) {
+        beginChange();
+        if (!oldRange.isEmpty()) {
+            nextRemove(0, oldRange);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+}
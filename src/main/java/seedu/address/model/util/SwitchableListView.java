@@ -0,0 +1,92 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view that shows one of several observable lists at a time, such as a filtered list or a range of
+ * a sorted list, so that a panel bound to the view can be switched between them.
+ *
+ * Only the list shown is listened to, and its changes are passed on as they are. Switching to another list is
+ * passed on as a replacement of the whole view, without reading either list.
+ */
+public class SwitchableListView<T> extends ObservableListBase<T> {
+
+    private final ListChangeListener<T> sourceListener = this::handleSourceChange;
+    private ObservableList<? extends T> source;
+
+    /**
+     * Creates a view showing {@code source}.
+     */
+    public SwitchableListView(ObservableList<? extends T> source) {
+        this.source = requireNonNull(source);
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Shows {@code newSource} in place of the list shown now.
+     */
+    public void show(ObservableList<? extends T> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        ObservableList<? extends T> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        source = newSource;
+        newSource.addListener(sourceListener);
+
+        beginChange();
+        if (!oldSource.isEmpty()) {
+            nextRemove(0, Collections.unmodifiableList(oldSource));
+        }
+        if (!newSource.isEmpty()) {
+            nextAdd(0, newSource.size());
+        }
+        endChange();
+    }
+
+    @Override
+    public T get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * Passes a change of the list shown on to the listeners of this view.
+     */
+    private void handleSourceChange(ListChangeListener.Change<? extends T> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+}
@@ -45,7 +45,7 @@ public class XmlAdaptedEventContact {
         if (!EventContacts.isValidEventContactName(eventContact)) {
             throw new IllegalValueException(EventContacts.MESSAGE_EVENT_CONTACTS_CONSTRAINTS);
         }
-        return new EventContacts(eventContact);
+        return EventContacts.of(eventContact);
     }
 
     @Override
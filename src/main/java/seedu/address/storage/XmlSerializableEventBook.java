@@ -46,11 +46,12 @@ public class XmlSerializableEventBook {
      * @throws IllegalValueException if there were any data constraints violated
      */
     public EventBook toModelType() throws IllegalValueException {
-        EventBook eventBook = new EventBook();
+        List<Event> modelEvents = new ArrayList<>(event.size());
         for (XmlAdaptedEvent p : event) {
-            Event event = p.toModelType();
-            eventBook.addEvent(event);
+            modelEvents.add(p.toModelType());
         }
+        EventBook eventBook = new EventBook();
+        eventBook.setEvents(modelEvents);
         return eventBook;
     }
 
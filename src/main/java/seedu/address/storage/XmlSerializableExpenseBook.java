@@ -45,11 +45,12 @@ public class XmlSerializableExpenseBook {
      * @throws IllegalValueException if there were any data constraints violated
      */
     public ExpenseBook toModelType() throws IllegalValueException {
-        ExpenseBook expenseBook = new ExpenseBook();
+        List<Expense> modelExpenses = new ArrayList<>(expenses.size());
         for (XmlAdaptedExpense p : expenses) {
-            Expense expense = p.toModelType();
-            expenseBook.addExpense(expense);
+            modelExpenses.add(p.toModelType());
         }
+        ExpenseBook expenseBook = new ExpenseBook();
+        expenseBook.setExpenses(modelExpenses);
         return expenseBook;
     }
 
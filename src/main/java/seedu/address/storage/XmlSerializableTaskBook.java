@@ -10,6 +10,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.TaskBook;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.expections.DuplicateTaskException;
 
 /**
  * An Immutable TaskBook that is serializable to XML format
@@ -45,13 +46,15 @@ public class XmlSerializableTaskBook {
      *                               {@code XmlAdaptedTask}.
      */
     public TaskBook toModelType() throws IllegalValueException {
-        TaskBook taskBook = new TaskBook();
+        List<Task> modelTasks = new ArrayList<>(tasks.size());
         for (XmlAdaptedTask t : tasks) {
-            Task task = t.toModelType();
-            if (taskBook.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
-            }
-            taskBook.addTask(task);
+            modelTasks.add(t.toModelType());
+        }
+        TaskBook taskBook = new TaskBook();
+        try {
+            taskBook.setTasks(modelTasks);
+        } catch (DuplicateTaskException dte) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
         }
         return taskBook;
     }
@@ -0,0 +1,55 @@
+package seedu.address.ui;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import seedu.address.model.agenda.AgendaItem;
+
+/**
+ * An UI component that displays information of an {@code AgendaItem}.
+ */
+public class AgendaCard extends UiPart<Region> {
+
+    private static final String FXML = "AgendaListCard.fxml";
+
+    public final AgendaItem agendaItem;
+
+    @FXML
+    private HBox cardPane;
+    @FXML
+    private Label id;
+    @FXML
+    private Label title;
+    @FXML
+    private Label kind;
+    @FXML
+    private Label when;
+
+    public AgendaCard(AgendaItem agendaItem, int displayedIndex) {
+        super(FXML);
+        this.agendaItem = agendaItem;
+        id.setText(displayedIndex + ". ");
+        title.setText(agendaItem.getTitle());
+        kind.setText(agendaItem.getKind().toString());
+        when.setText(agendaItem.getWhen());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AgendaCard)) {
+            return false;
+        }
+
+        // state check
+        AgendaCard card = (AgendaCard) other;
+        return id.getText().equals(card.id.getText())
+                && agendaItem.equals(card.agendaItem);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.ui;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import seedu.address.model.agenda.AgendaItem;
+
+/**
+ * Panel containing the agenda, which lists the tasks, events and expenses together.
+ * The cells are of a fixed height, so the list view only reads the rows it shows, and the agenda only merges the
+ * rows up to the ones in view.
+ */
+public class AgendaListPanel extends UiPart<Region> {
+    private static final String FXML = "AgendaListPanel.fxml";
+    private static final double CELL_HEIGHT = 60;
+
+    @FXML
+    private ListView<AgendaItem> agendaListView;
+
+    public AgendaListPanel(ObservableList<AgendaItem> agenda) {
+        super(FXML);
+        agendaListView.setFixedCellSize(CELL_HEIGHT);
+        agendaListView.setItems(agenda);
+        agendaListView.setCellFactory(listView -> new AgendaListViewCell());
+    }
+
+    /**
+     * Custom {@code ListCell} that displays the graphics of an {@code AgendaItem} using an {@code AgendaCard}.
+     */
+    class AgendaListViewCell extends ListCell<AgendaItem> {
+        @Override
+        protected void updateItem(AgendaItem agendaItem, boolean empty) {
+            super.updateItem(agendaItem, empty);
+
+            if (empty || agendaItem == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new AgendaCard(agendaItem, getIndex() + 1).getRoot());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.address.ui;
+
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.agenda.AgendaItem;
+
+/**
+ * Controller for the agenda page.
+ */
+public class AgendaWindow extends UiPart<Stage> {
+
+    private static final Logger logger = LogsCenter.getLogger(AgendaWindow.class);
+    private static final String FXML = "AgendaWindow.fxml";
+
+    @FXML
+    private StackPane agendaListPanelPlaceholder;
+
+    /**
+     * Creates a new AgendaWindow.
+     *
+     * @param root Stage to use as the root of the AgendaWindow.
+     * @param agenda The agenda to show, which is kept up to date with the books.
+     */
+    public AgendaWindow(Stage root, ObservableList<AgendaItem> agenda) {
+        super(FXML, root);
+        agendaListPanelPlaceholder.getChildren().add(new AgendaListPanel(agenda).getRoot());
+    }
+
+    /**
+     * Creates a new AgendaWindow.
+     */
+    public AgendaWindow(ObservableList<AgendaItem> agenda) {
+        this(new Stage(), agenda);
+    }
+
+    /**
+     * Shows the agenda window.
+     */
+    public void show() {
+        logger.fine("Showing the agenda.");
+        getRoot().show();
+    }
+
+    /**
+     * Returns true if the agenda window is currently being shown.
+     */
+    public boolean isShowing() {
+        return getRoot().isShowing();
+    }
+
+    /**
+     * Focuses on the agenda window.
+     */
+    public void focus() {
+        getRoot().requestFocus();
+    }
+}
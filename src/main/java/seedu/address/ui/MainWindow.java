@@ -20,6 +20,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.DisplayExpenseTrendEvent;
 import seedu.address.commons.events.ui.DisplayMonthlyExpenseEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.events.ui.ShowAgendaRequestEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.logic.Logic;
 import seedu.address.model.UserPrefs;
@@ -46,6 +47,7 @@ public class MainWindow extends UiPart<Stage> {
     private Config config;
     private UserPrefs prefs;
     private HelpWindow helpWindow;
+    private AgendaWindow agendaWindow;
     private ExpenseTrendWindow expenseTrendWindow;
     private MonthlyExpenseWindow monthlyExpenseWindow;
 
@@ -94,6 +96,7 @@ public class MainWindow extends UiPart<Stage> {
         registerAsAnEventHandler(this);
 
         helpWindow = new HelpWindow();
+        agendaWindow = new AgendaWindow(logic.getAgenda());
         expenseTrendWindow = new ExpenseTrendWindow();
         monthlyExpenseWindow = new MonthlyExpenseWindow();
     }
@@ -206,6 +209,17 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Opens the agenda window or focuses on it if it's already opened.
+     */
+    public void handleAgenda() {
+        if (!agendaWindow.isShowing()) {
+            agendaWindow.show();
+        } else {
+            agendaWindow.focus();
+        }
+    }
+
     void show() {
         primaryStage.show();
     }
@@ -244,6 +258,12 @@ public class MainWindow extends UiPart<Stage> {
         handleHelp();
     }
 
+    @Subscribe
+    private void handleShowAgendaEvent(ShowAgendaRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        handleAgenda();
+    }
+
     // ============ Expense ===========================================================
 
     @Subscribe
@@ -275,7 +295,7 @@ public class MainWindow extends UiPart<Stage> {
      * Display the monthly expense window or focuses on it if it's already opened.
      */
     @FXML
-    public void handleDisplayMonthlyExpense(HashMap<String, String> monthlyData, String selectedMonth) {
+    public void handleDisplayMonthlyExpense(HashMap<String, Long> monthlyData, String selectedMonth) {
         monthlyExpenseWindow.setMonthlyData(monthlyData, selectedMonth);
         if (!monthlyExpenseWindow.isShowing()) {
             monthlyExpenseWindow.show();
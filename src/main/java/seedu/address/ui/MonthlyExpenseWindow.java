@@ -14,6 +14,7 @@ import javafx.scene.web.WebView;
 import javafx.stage.Stage;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.expense.ExpenseValue;
 
 /**
  * Controller for a monthly expense page
@@ -42,25 +43,25 @@ public class MonthlyExpenseWindow extends UiPart<Stage> {
         this(new Stage());
     }
 
-    public void setMonthlyData(HashMap<String, String> monthlyData, String selectedMonth) {
+    public void setMonthlyData(HashMap<String, Long> monthlyData, String selectedMonth) {
         PieChart monthlyDataPie = updatePieChart(monthlyData, selectedMonth);
         displayMonthlyData(monthlyDataPie);
     }
 
     /**
      * updates the pie chart with the monthly expense data
-     * @param monthlyData the values of each category for the selected month
+     * @param monthlyData the values in cents of each category for the selected month
      * @return
      */
-    public PieChart updatePieChart(HashMap<String, String> monthlyData, String selectedMonth) {
-        double totalValue = 0.0;
-        for (HashMap.Entry<String, String> entry : monthlyData.entrySet()) {
-            totalValue += Double.parseDouble(entry.getValue());
+    public PieChart updatePieChart(HashMap<String, Long> monthlyData, String selectedMonth) {
+        long totalCents = 0;
+        for (long categoryCents : monthlyData.values()) {
+            totalCents = ExpenseValue.sumCents(totalCents, categoryCents);
         }
         ArrayList<PieChart.Data> pieChartDataList = new ArrayList<>();
-        for (HashMap.Entry<String, String> entry : monthlyData.entrySet()) {
+        for (HashMap.Entry<String, Long> entry : monthlyData.entrySet()) {
             pieChartDataList.add(new PieChart.Data(entry.getKey() + ": "
-                    + getPercentage(entry.getValue(), totalValue) + "%", Double.parseDouble(entry.getValue())));
+                    + getPercentage(entry.getValue(), totalCents) + "%", ExpenseValue.toDollars(entry.getValue())));
         }
         ObservableList<PieChart.Data> observablePieChartDataList = FXCollections.observableList(pieChartDataList);
         PieChart pieChart = new PieChart(observablePieChartDataList);
@@ -125,13 +126,12 @@ public class MonthlyExpenseWindow extends UiPart<Stage> {
 
     /**
      *
-     * @param value expense value for current category
-     * @param totalValue total expense value for the month
+     * @param categoryCents expense value in cents for current category
+     * @param totalCents total expense value in cents for the month
      * @return the percentage of the expense value for the category over the total monthly expense
      */
-    private String getPercentage(String value, double totalValue) {
-        double categoryValue = Double.parseDouble(value);
-        double percentage = categoryValue * 100 / totalValue;
+    private String getPercentage(long categoryCents, long totalCents) {
+        double percentage = categoryCents * 100.0 / totalCents;
         if (percentage == 100.0) {
             return "100";
         } else if (Double.toString(percentage).length() == 3 || Double.toString(percentage).length() == 4) {
@@ -0,0 +1,152 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.model.EventBookChangedEvent;
+import seedu.address.commons.events.ui.NewNotificationAvailableEvent;
+import seedu.address.model.EventBook;
+import seedu.address.model.TaskBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TaskBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class ReminderSchedulerTest {
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final SettableClock clock = new SettableClock(LocalDateTime.of(2018, 11, 12, 9, 0));
+    private final Event lecture = new EventBuilder().withEventCategory("Lecture")
+            .withEventDate("12/11/2018").withEventTime("1000").build();
+    private final Event pastEvent = new EventBuilder().withEventCategory("Breakfast")
+            .withEventDate("12/11/2018").withEventTime("0800").build();
+    private final Task assignment = new TaskBuilder().withTaskName("Assignment").withEndDateTime("12/11_11:00").build();
+
+    private ReminderScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = new ReminderScheduler(clock, Executors.newSingleThreadScheduledExecutor());
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    public void raiseDueReminders_itemsDue_raisesOneNotificationEach() {
+        EventBook eventBook = new EventBook();
+        eventBook.addEvent(lecture);
+        eventBook.addEvent(pastEvent);
+        TaskBook taskBook = new TaskBook();
+        taskBook.addTask(assignment);
+        scheduler.trackEventBook(eventBook);
+        scheduler.trackTaskBook(taskBook);
+        assertEquals(2, scheduler.getPendingCount());
+
+        clock.set(LocalDateTime.of(2018, 11, 12, 10, 0));
+        scheduler.raiseDueReminders();
+        assertNotification(ReminderScheduler.EVENT_STARTING_TITLE, "Lecture starts now.");
+        assertEquals(1, scheduler.getPendingCount());
+
+        clock.set(LocalDateTime.of(2018, 11, 12, 12, 0));
+        scheduler.raiseDueReminders();
+        assertNotification(ReminderScheduler.TASK_DUE_TITLE, "Assignment is due now.");
+        assertEquals(0, scheduler.getPendingCount());
+
+        scheduler.raiseDueReminders();
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void trackedBookChanged_remindersFollowBook() {
+        EventBook eventBook = new EventBook();
+        eventBook.addEvent(lecture);
+        scheduler.trackEventBook(eventBook);
+
+        Event movedLecture = new EventBuilder(lecture).withEventTime("1100").build();
+        eventBook.updateEvent(lecture, movedLecture);
+        assertEquals(1, scheduler.getPendingCount());
+
+        clock.set(LocalDateTime.of(2018, 11, 12, 10, 30));
+        scheduler.raiseDueReminders();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        eventBook.removeEvent(movedLecture);
+        assertEquals(0, scheduler.getPendingCount());
+        clock.set(LocalDateTime.of(2018, 11, 12, 11, 0));
+        scheduler.raiseDueReminders();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void handleEventBookChangedEvent_untrackedBook_bookTrackedOnce() {
+        EventBook eventBook = new EventBook();
+        eventBook.addEvent(lecture);
+        EventBookChangedEvent changedEvent = new EventBookChangedEvent(eventBook);
+
+        scheduler.handleEventBookChangedEvent(changedEvent);
+        scheduler.handleEventBookChangedEvent(changedEvent);
+        scheduler.trackEventBook(eventBook);
+        assertEquals(1, scheduler.getPendingCount());
+
+        clock.set(LocalDateTime.of(2018, 11, 12, 10, 0));
+        scheduler.raiseDueReminders();
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    /**
+     * Asserts that the last event raised is a notification with {@code expectedTitle} and {@code expectedMessage}.
+     */
+    private void assertNotification(String expectedTitle, String expectedMessage) {
+        NewNotificationAvailableEvent notification =
+                (NewNotificationAvailableEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(expectedTitle, notification.title);
+        assertEquals(expectedMessage, notification.message);
+    }
+
+    /**
+     * A clock in UTC whose time is set by the test.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        void set(LocalDateTime dateTime) {
+            instant = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DateUtilTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    //---------------- Tests for isValidDate --------------------------------------
+
+    @Test
+    public void isValidDate_nullDate_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        DateUtil.isValidDate(null);
+    }
+
+    @Test
+    public void isValidDate() {
+        // invalid dates
+        assertFalse(DateUtil.isValidDate("")); // empty string
+        assertFalse(DateUtil.isValidDate("1/01/2018")); // day not 2 digits
+        assertFalse(DateUtil.isValidDate("01-01-2018")); // wrong separator
+        assertFalse(DateUtil.isValidDate("0a/01/2018")); // non-digit
+        assertFalse(DateUtil.isValidDate("00/01/2018")); // day 0
+        assertFalse(DateUtil.isValidDate("01/13/2018")); // month 13
+        assertFalse(DateUtil.isValidDate("31/04/2018")); // April has 30 days
+        assertFalse(DateUtil.isValidDate("29/02/2018")); // not a leap year
+        assertFalse(DateUtil.isValidDate("29/02/1900")); // century that is not a leap year
+        assertFalse(DateUtil.isValidDate("01/01/0000")); // year 0
+
+        // valid dates
+        assertTrue(DateUtil.isValidDate("01/01/0001"));
+        assertTrue(DateUtil.isValidDate("29/02/2000")); // leap year
+        assertTrue(DateUtil.isValidDate("31/12/3000"));
+    }
+
+    //---------------- Tests for toEpochDay --------------------------------------
+
+    @Test
+    public void toEpochDay_invalidDate_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        DateUtil.toEpochDay("29/02/2018");
+    }
+
+    @Test
+    public void toEpochDay_validDate_returnsDaysSinceEpoch() {
+        assertEquals(0, DateUtil.toEpochDay("01/01/1970"));
+        assertEquals(17846, DateUtil.toEpochDay("11/11/2018"));
+        assertEquals(-1, DateUtil.toEpochDay("31/12/1969"));
+    }
+
+    @Test
+    public void toEpochMinute_dateTime_returnsMinutesSinceEpochIgnoringSeconds() {
+        assertEquals(0, DateUtil.toEpochMinute(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        assertEquals(17846L * 24 * 60 + 9 * 60 + 30, DateUtil.toEpochMinute(LocalDateTime.of(2018, 11, 11, 9, 30, 59)));
+    }
+}
@@ -2,10 +2,13 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.junit.Rule;
@@ -137,6 +140,37 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase and toFoldedWords --------------------------------------
+
+    @Test
+    public void foldCase_wordsEqualIgnoringCase_sameFoldedWord() {
+        assertEquals(StringUtil.foldCase("aBc"), StringUtil.foldCase("AbC"));
+        assertEquals("abc", StringUtil.foldCase("ABC"));
+    }
+
+    @Test
+    public void toFoldedWords_extraWhitespace_emptyWordsSkipped() {
+        assertEquals(Arrays.asList("alice", "pauline"), StringUtil.toFoldedWords("  Alice \t PAULINE "));
+        assertEquals(Collections.emptyList(), StringUtil.toFoldedWords("   "));
+    }
+
+    @Test
+    public void toFoldedWords_nullGiven_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.toFoldedWords(null);
+    }
+
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance() {
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(1, StringUtil.editDistance("alice", "alise"));
+        assertEquals(2, StringUtil.editDistance("bob", "bobby"));
+        assertEquals(2, StringUtil.editDistance("hans", "hnas"));
+        assertEquals(3, StringUtil.editDistance("", "abc"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
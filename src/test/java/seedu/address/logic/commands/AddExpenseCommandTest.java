@@ -5,8 +5,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -23,9 +29,13 @@ import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.ReadOnlyExpenseBook;
 import seedu.address.model.ReadOnlyTaskBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.agenda.AgendaItem;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.EventClash;
 import seedu.address.model.expense.Expense;
+import seedu.address.model.expense.ExpenseCategory;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.ExpenseBuilder;
 
@@ -149,6 +159,11 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateSortedPersonList(Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -268,6 +283,46 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateEventListTimeRange(long startEpochMinute, long endEpochMinute) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateEventListToUpcoming(long startEpochMinute, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getClashingEvents(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<EventClash> getEventClashes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Event> getEventsOf(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getContactsOf(Event event) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsBetween(long startEpochMinute, long endEpochMinute) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getTasksOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         //======== Expense ============================================================================================
 
         @Override
@@ -290,6 +345,16 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Map<ExpenseCategory, Long> getExpenseTotalsByCategory(YearMonth month) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getExpenseTotal(YearMonth month) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Expense> getFilteredExpenseList() {
             throw new AssertionError("This method should not be called.");
@@ -300,6 +365,11 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateExpenseListDateRange(long startEpochDay, long endEpochDay) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoExpenseBook() {
             throw new AssertionError("This method should not be called.");
@@ -324,6 +394,46 @@ public class AddExpenseCommandTest {
         public void commitExpenseBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public Set<Person> findPersonsByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<Person, Integer> findPersonsByNameFuzzy(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByAddress(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersonsByPhone(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getPersonsTagged(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Task> getTasksTagged(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Expense> getExpensesTagged(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<AgendaItem> getAgenda() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
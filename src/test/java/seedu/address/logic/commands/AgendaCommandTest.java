@@ -0,0 +1,30 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.AgendaCommand.SHOWING_AGENDA_MESSAGE;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.events.ui.ShowAgendaRequestEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class AgendaCommandTest {
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_agenda_success() {
+        assertCommandSuccess(new AgendaCommand(), model, commandHistory, SHOWING_AGENDA_MESSAGE, expectedModel);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof ShowAgendaRequestEvent);
+        assertTrue(eventsCollectorRule.eventsCollector.getSize() == 1);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.EditEventCommand.EditEventDescriptor;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ExpenseBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.Time;
+import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for ConflictsCommand and the clash warnings of
+ * AddEventCommand and EditEventCommand.
+ */
+public class ConflictsCommandTest {
+
+    private final Event lecture = new EventBuilder().withEventCategory("Lecture")
+            .withEventDate("12/11/2018").withEventTime("1000").build();
+    private final Event lunch = new EventBuilder().withEventCategory("Lunch")
+            .withEventDate("12/11/2018").withEventTime("1200").build();
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        EventBook eventBook = new EventBookBuilder().withEvent(lecture).withEvent(lunch).build();
+        model = new ModelManager(new AddressBook(), new ExpenseBook(), eventBook, new TaskBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_noClashes_showsNoClashes() {
+        Model expectedModel = new ModelManager(new AddressBook(), new ExpenseBook(), model.getEventBook(),
+                new TaskBook(), new UserPrefs());
+        assertCommandSuccess(new ConflictsCommand(), model, commandHistory, ConflictsCommand.MESSAGE_NO_CLASHES,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_clashingEvents_listsEachPair() {
+        Event meeting = new EventBuilder().withEventCategory("Meeting")
+                .withEventDate("12/11/2018").withEventTime("1030").build();
+        model.addEvent(meeting);
+
+        CommandResult result = new ConflictsCommand().execute(model, commandHistory);
+        assertEquals(String.format(ConflictsCommand.MESSAGE_CLASHES, 1,
+                "1. Lecture (12/11/2018 1000) and Meeting (12/11/2018 1030)"), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_addClashingEvent_warnsOfClash() throws CommandException {
+        Event brunch = new EventBuilder().withEventCategory("Brunch")
+                .withEventDate("12/11/2018").withEventTime("1101").build();
+
+        CommandResult result = new AddEventCommand(brunch).execute(model, commandHistory);
+        assertEquals(String.format(AddEventCommand.MESSAGE_SUCCESS, brunch)
+                + String.format(ConflictsCommand.MESSAGE_CLASH_WARNING, "Lunch (12/11/2018 1200)"),
+                result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_editEventIntoClash_warnsOfClash() throws CommandException {
+        EditEventDescriptor descriptor = new EditEventDescriptor();
+        descriptor.setEventTime(new Time("1059"));
+
+        CommandResult result = new EditEventCommand(Index.fromOneBased(2), descriptor).execute(model, commandHistory);
+        assertEquals(EditEventCommand.MESSAGE_EDIT_EVENT_SUCCESS
+                + String.format(ConflictsCommand.MESSAGE_CLASH_WARNING, "Lecture (12/11/2018 1000)"),
+                result.feedbackToUser);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ExpenseBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
+
+public class EventsOfCommandTest {
+
+    private final Event lunch = new EventBuilder().withEventCategory("Lunch").withTags("Alice Pauline").build();
+    private final Event meeting = new EventBuilder().withEventCategory("Meeting").withTags("Benson Meier").build();
+    private final AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+    private final EventBook eventBook = new EventBookBuilder().withEvent(lunch).withEvent(meeting).build();
+
+    private Model model = new ModelManager(addressBook, new ExpenseBook(), eventBook, new TaskBook(),
+            new UserPrefs());
+    private Model expectedModel = new ModelManager(addressBook, new ExpenseBook(), eventBook, new TaskBook(),
+            new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        EventsOfCommand firstCommand = new EventsOfCommand(Index.fromOneBased(1));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new EventsOfCommand(Index.fromOneBased(1))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(firstCommand.equals(new EventsOfCommand(Index.fromOneBased(2))));
+    }
+
+    @Test
+    public void execute_validIndex_listsEventsOfPerson() {
+        assertCommandSuccess(new EventsOfCommand(Index.fromOneBased(1)), model, commandHistory,
+                String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 1), expectedModel);
+        assertEquals(Arrays.asList(lunch), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        assertCommandFailure(new EventsOfCommand(Index.fromOneBased(3)), model, commandHistory,
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+}
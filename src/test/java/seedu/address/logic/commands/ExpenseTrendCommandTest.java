@@ -1,9 +1,13 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.ExpenseTrendCommand.MESSAGE_SUCCESS;
 
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -11,6 +15,7 @@ import seedu.address.commons.events.ui.DisplayExpenseTrendEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.testutil.ExpenseBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ExpenseTrendCommandTest {
@@ -27,4 +32,22 @@ public class ExpenseTrendCommandTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DisplayExpenseTrendEvent);
         assertTrue(eventsCollectorRule.eventsCollector.getSize() == 1);
     }
+
+    @Test
+    public void execute_expensesInPastMonths_totalledPerMonth() {
+        YearMonth currentMonth = YearMonth.now();
+        String lastMonthDate = currentMonth.minusMonths(1).atDay(1).format(DateTimeFormatter.ofPattern("dd/MM/uuuu"));
+        String longAgoDate = currentMonth.minusMonths(6).atDay(1).format(DateTimeFormatter.ofPattern("dd/MM/uuuu"));
+        model.addExpense(new ExpenseBuilder().withExpenseDate(lastMonthDate).withExpenseValue("0.10").build());
+        model.addExpense(new ExpenseBuilder().withExpenseDate(lastMonthDate).withExpenseCategory("others")
+                .withExpenseValue("0.20").build());
+        model.addExpense(new ExpenseBuilder().withExpenseDate(longAgoDate).withExpenseValue("5.00").build());
+        new ExpenseTrendCommand().execute(model, commandHistory);
+
+        DisplayExpenseTrendEvent event = (DisplayExpenseTrendEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(6, event.getexEenseTrendData().size());
+        assertEquals(0.30, event.getexEenseTrendData().get(currentMonth.minusMonths(1).toString()), 0);
+        assertEquals(0.00, event.getexEenseTrendData().get(currentMonth.toString()), 0);
+    }
 }
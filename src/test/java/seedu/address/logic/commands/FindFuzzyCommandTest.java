@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.EventBook;
+import seedu.address.model.ExpenseBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindFuzzyCommand}.
+ */
+public class FindFuzzyCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new ExpenseBook(), new EventBook(),
+            new TaskBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new ExpenseBook(), new EventBook(),
+            new TaskBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        FindFuzzyCommand findFirstCommand = new FindFuzzyCommand(Collections.singletonList("first"));
+        FindFuzzyCommand findSecondCommand = new FindFuzzyCommand(Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindFuzzyCommand(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_noSimilarWord_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindFuzzyCommand command = new FindFuzzyCommand(Arrays.asList("xyzzy"));
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_misspeltKeywords_closestPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4);
+        FindFuzzyCommand command = new FindFuzzyCommand(Arrays.asList("MEYER", "kurtz"));
+        List<Person> expectedPersons = Arrays.asList(ELLE, BENSON, CARL, DANIEL);
+        expectedModel.updateFilteredPersonList(expectedPersons::contains);
+        expectedModel.updateSortedPersonList(Comparator.comparing(expectedPersons::indexOf));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+}
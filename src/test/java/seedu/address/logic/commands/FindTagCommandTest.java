@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalExpenses.HOTEL;
+import static seedu.address.testutil.TypicalExpenses.getTypicalExpenseBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.expense.Expense;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.ExpenseBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindTagCommand}.
+ */
+public class FindTagCommandTest {
+    private static final Tag FRIENDS = Tag.of("friends");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalExpenseBook(),
+            new EventBook(), getTypicalTaskBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalExpenseBook(),
+            new EventBook(), getTypicalTaskBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        FindTagCommand findFriendsCommand = new FindTagCommand(FRIENDS);
+
+        // same object -> returns true
+        assertTrue(findFriendsCommand.equals(findFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(findFriendsCommand.equals(new FindTagCommand(new Tag("friends"))));
+
+        // different types -> returns false
+        assertFalse(findFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFriendsCommand.equals(null));
+
+        // different tag -> returns false
+        assertFalse(findFriendsCommand.equals(new FindTagCommand(Tag.of("family"))));
+    }
+
+    @Test
+    public void execute_tagUsedInSomeBooks_matchingEntriesListed() {
+        String expectedMessage = String.format(FindTagCommand.MESSAGE_SUCCESS, 3, 0, 1, FRIENDS);
+        expectedModel.updateFilteredPersonList(person -> person.getTags().contains(FRIENDS));
+        expectedModel.updateFilteredTaskList(task -> task.getTags().contains(FRIENDS));
+        expectedModel.updateFilteredExpenseList(expense -> expense.getTags().contains(FRIENDS));
+
+        assertCommandSuccess(new FindTagCommand(FRIENDS), model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+        assertEquals(Collections.singletonList(HOTEL), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_afterEditAndUndo_indexFollowsChanges() {
+        Person untaggedAlice = new PersonBuilder(ALICE).withTags().build();
+        model.updatePerson(ALICE, untaggedAlice);
+        model.commitAddressBook();
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), model.getPersonsTagged(FRIENDS));
+
+        model.undoAddressBook();
+        new FindTagCommand(FRIENDS).execute(model, commandHistory);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_equalExpenses_everyCopyListed() {
+        Expense hotelCopy = new ExpenseBuilder(HOTEL).build();
+        model.addExpense(hotelCopy);
+
+        new FindTagCommand(FRIENDS).execute(model, commandHistory);
+        assertEquals(2, model.getFilteredExpenseList().size());
+        assertTrue(model.getFilteredExpenseList().stream().anyMatch(expense -> expense == hotelCopy));
+    }
+
+    @Test
+    public void getPersonsTagged_personEditedAfterwards_resultUnchanged() {
+        Set<Person> persons = model.getPersonsTagged(FRIENDS);
+        model.updatePerson(ALICE, new PersonBuilder(ALICE).withTags().build());
+
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON, DANIEL)), persons);
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ExpenseBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TaskBookBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeSlotsCommand.
+ */
+public class FreeSlotsCommandTest {
+
+    private static final String DATE = "12/11/2018";
+
+    private final Event lateNightCall = new EventBuilder().withEventCategory("Call")
+            .withEventDate("11/11/2018").withEventTime("2330").build();
+    private final Event lecture = new EventBuilder().withEventCategory("Lecture")
+            .withEventDate(DATE).withEventTime("1000").build();
+    private final Event meeting = new EventBuilder().withEventCategory("Meeting")
+            .withEventDate(DATE).withEventTime("1030").build();
+    private final Event dinner = new EventBuilder().withEventCategory("Dinner")
+            .withEventDate(DATE).withEventTime("2330").build();
+    private final Task lab = new TaskBuilder().withTaskName("Lab")
+            .withStartDateTime("12/11_14:00").withEndDateTime("12/11_16:00").build();
+    private final Task project = new TaskBuilder().withTaskName("Project")
+            .withStartDateTime("10/11").withEndDateTime("12/11_08:00").build();
+    private final Task nextWeek = new TaskBuilder().withTaskName("Next week")
+            .withStartDateTime("19/11").withEndDateTime("20/11_08:00").build();
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_eventsAndTasks_listsGapsBetweenThem() {
+        Model model = createModel(new EventBookBuilder().withEvent(dinner).withEvent(meeting).withEvent(lateNightCall)
+                .withEvent(lecture).build(), new TaskBookBuilder().withTask(lab).withTask(project).withTask(nextWeek)
+                .build());
+
+        CommandResult result = new FreeSlotsCommand(new Date(DATE)).execute(model, commandHistory);
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS, DATE,
+                "08:00-10:00\n11:30-14:00\n16:00-23:30"), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_nothingOnDay_wholeDayFree() {
+        Model model = createModel(new EventBookBuilder().withEvent(lecture).build(), new TaskBook());
+
+        CommandResult result = new FreeSlotsCommand(new Date("13/11/2018")).execute(model, commandHistory);
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS, "13/11/2018", "00:00-24:00"),
+                result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_taskTakesWholeDay_noFreeTime() {
+        Task yearEndProject = new TaskBuilder().withTaskName("Year end").withStartDateTime("30/12_09:00")
+                .withEndDateTime("02/01_12:00").build();
+        Model model = createModel(new EventBook(), new TaskBookBuilder().withTask(yearEndProject).build());
+
+        CommandResult result = new FreeSlotsCommand(new Date("31/12/2018")).execute(model, commandHistory);
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_NO_FREE_SLOTS, "31/12/2018"), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_taskEndsBeforeItStartsOnDay_taskSkipped() {
+        Task backwards = new TaskBuilder().withTaskName("Backwards").withStartDateTime("12/11_16:00")
+                .withEndDateTime("12/11_14:00").build();
+        Model model = createModel(new EventBookBuilder().withEvent(lecture).build(),
+                new TaskBookBuilder().withTask(backwards).build());
+
+        CommandResult result = new FreeSlotsCommand(new Date(DATE)).execute(model, commandHistory);
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_FREE_SLOTS, DATE, "00:00-10:00\n11:00-24:00"),
+                result.feedbackToUser);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand command = new FreeSlotsCommand(new Date(DATE));
+
+        // same values -> returns true
+        assertTrue(command.equals(new FreeSlotsCommand(new Date(DATE))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different date -> returns false
+        assertFalse(command.equals(new FreeSlotsCommand(new Date("13/11/2018"))));
+    }
+
+    private Model createModel(EventBook eventBook, TaskBook taskBook) {
+        return new ModelManager(new AddressBook(), new ExpenseBook(), eventBook, taskBook, new UserPrefs());
+    }
+}
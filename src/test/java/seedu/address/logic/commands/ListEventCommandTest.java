@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_EVENTS_LISTED_OVERVIEW;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.ExpenseBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Date;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ListEventCommand.
+ */
+public class ListEventCommandTest {
+
+    private static final Clock NOON_OF_12_NOV = Clock.fixed(LocalDateTime.of(2018, 11, 12, 12, 0)
+            .toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    private final Event exam = new EventBuilder().withEventCategory("Exam")
+            .withEventDate("01/12/2018").withEventTime("0900").build();
+    private final Event lecture = new EventBuilder().withEventCategory("Lecture")
+            .withEventDate("12/11/2018").withEventTime("1000").build();
+    private final Event lunch = new EventBuilder().withEventCategory("Lunch")
+            .withEventDate("12/11/2018").withEventTime("1200").build();
+    private final Event tutorial = new EventBuilder().withEventCategory("Tutorial")
+            .withEventDate("13/11/2018").withEventTime("0900").build();
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        EventBook eventBook = new EventBookBuilder().withEvent(exam).withEvent(lunch).withEvent(tutorial)
+                .withEvent(lecture).build();
+        model = new ModelManager(new AddressBook(), new ExpenseBook(), eventBook, new TaskBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_sameStartAndEndDate_listsEventsOfDayInTimeOrder() {
+        CommandResult result = rangeCommand("12/11/2018", "12/11/2018").execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2), result.feedbackToUser);
+        assertEquals(Arrays.asList(lecture, lunch), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_eventBookChangedAfterListing_listFollowsEventBook() {
+        rangeCommand("12/11/2018", "12/11/2018").execute(model, commandHistory);
+        Event movedTutorial = new EventBuilder(tutorial).withEventDate("12/11/2018").build();
+        model.updateEvent(tutorial, movedTutorial);
+        model.deleteEvent(lecture);
+        assertEquals(Arrays.asList(movedTutorial, lunch), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_onlyEndDate_listsEventsUpToEndOfDay() {
+        new ListEventCommand(Optional.empty(), Optional.of(new Date("13/11/2018"))).execute(model, commandHistory);
+        assertEquals(Arrays.asList(lecture, lunch, tutorial), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_upcomingFromNow_listsNextEventsIncludingCurrentMinute() {
+        CommandResult result = new ListEventCommand(Optional.empty(), 2, NOON_OF_12_NOV)
+                .execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 2), result.feedbackToUser);
+        assertEquals(Arrays.asList(lunch, tutorial), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_upcomingFromDate_listsNextEventsFromStartOfDate() {
+        new ListEventCommand(Optional.of(new Date("13/11/2018")), 5, NOON_OF_12_NOV).execute(model, commandHistory);
+        assertEquals(Arrays.asList(tutorial, exam), model.getFilteredEventList());
+    }
+
+    @Test
+    public void execute_noArguments_listsAllEventsInBookOrder() {
+        rangeCommand("12/11/2018", "12/11/2018").execute(model, commandHistory);
+        CommandResult result = new ListEventCommand().execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_EVENTS_LISTED_OVERVIEW, 4), result.feedbackToUser);
+        assertEquals(Arrays.asList(exam, lunch, tutorial, lecture), model.getFilteredEventList());
+    }
+
+    @Test
+    public void equals() {
+        ListEventCommand weekCommand = rangeCommand("12/11/2018", "18/11/2018");
+        ListEventCommand upcomingCommand = new ListEventCommand(Optional.empty(), 3, NOON_OF_12_NOV);
+
+        // same values -> returns true
+        assertTrue(weekCommand.equals(rangeCommand("12/11/2018", "18/11/2018")));
+        assertTrue(upcomingCommand.equals(new ListEventCommand(Optional.empty(), 3, Clock.systemUTC())));
+
+        // same object -> returns true
+        assertTrue(weekCommand.equals(weekCommand));
+
+        // null -> returns false
+        assertFalse(weekCommand.equals(null));
+
+        // different arguments -> returns false
+        assertFalse(weekCommand.equals(rangeCommand("12/11/2018", "17/11/2018")));
+        assertFalse(weekCommand.equals(new ListEventCommand()));
+        assertFalse(upcomingCommand.equals(new ListEventCommand(Optional.empty(), 4, NOON_OF_12_NOV)));
+    }
+
+    private ListEventCommand rangeCommand(String startDate, String endDate) {
+        return new ListEventCommand(Optional.of(new Date(startDate)), Optional.of(new Date(endDate)));
+    }
+}
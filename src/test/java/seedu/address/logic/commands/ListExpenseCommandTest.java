@@ -0,0 +1,103 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_EXPENSES_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalExpenses.DATE;
+import static seedu.address.testutil.TypicalExpenses.FOOD;
+import static seedu.address.testutil.TypicalExpenses.GST;
+import static seedu.address.testutil.TypicalExpenses.HOTEL;
+import static seedu.address.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.address.testutil.TypicalExpenses.TRANSPORT;
+import static seedu.address.testutil.TypicalExpenses.TRAVEL;
+import static seedu.address.testutil.TypicalExpenses.getTypicalExpenseBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBook;
+import seedu.address.model.EventBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.expense.ExpenseDate;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for ListExpenseCommand.
+ */
+public class ListExpenseCommandTest {
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(new AddressBook(), getTypicalExpenseBook(), new EventBook(),
+                new TaskBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_bothDates_listsExpensesInRangeInclusive() {
+        CommandResult result = rangeCommand("10/10/2018", "30/10/2018").execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_EXPENSES_LISTED_OVERVIEW, 3), result.feedbackToUser);
+        assertEquals(Arrays.asList(FOOD, DATE, HOTEL), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_onlyStartDate_listsExpensesFromStartDate() {
+        new ListExpenseCommand(Optional.of(new ExpenseDate("11/11/2018")), Optional.empty())
+                .execute(model, commandHistory);
+        assertEquals(Arrays.asList(TRANSPORT, TRAVEL), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_onlyEndDate_listsExpensesUpToEndDate() {
+        new ListExpenseCommand(Optional.empty(), Optional.of(new ExpenseDate("11/09/2018")))
+                .execute(model, commandHistory);
+        assertEquals(Arrays.asList(GST, SCHOOLFEE), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_noExpensesInRange_listsNoExpenses() {
+        CommandResult result = rangeCommand("01/01/2017", "31/12/2017").execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_EXPENSES_LISTED_OVERVIEW, 0), result.feedbackToUser);
+        assertEquals(Collections.emptyList(), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_noDatesAfterRange_listsAllExpenses() {
+        rangeCommand("10/10/2018", "30/10/2018").execute(model, commandHistory);
+        CommandResult result = new ListExpenseCommand().execute(model, commandHistory);
+        assertEquals(String.format(MESSAGE_EXPENSES_LISTED_OVERVIEW, 7), result.feedbackToUser);
+        assertEquals(model.getExpenseBook().getExpenseList(), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void equals() {
+        ListExpenseCommand octoberCommand = rangeCommand("01/10/2018", "31/10/2018");
+
+        // same values -> returns true
+        assertTrue(octoberCommand.equals(rangeCommand("01/10/2018", "31/10/2018")));
+
+        // same object -> returns true
+        assertTrue(octoberCommand.equals(octoberCommand));
+
+        // null -> returns false
+        assertFalse(octoberCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(octoberCommand.equals(rangeCommand("01/10/2018", "30/10/2018")));
+        assertFalse(octoberCommand.equals(new ListExpenseCommand()));
+    }
+
+    private ListExpenseCommand rangeCommand(String startDate, String endDate) {
+        return new ListExpenseCommand(Optional.of(new ExpenseDate(startDate)), Optional.of(new ExpenseDate(endDate)));
+    }
+}
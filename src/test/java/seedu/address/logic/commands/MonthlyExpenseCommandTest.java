@@ -1,9 +1,13 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.MonthlyExpenseCommand.MESSAGE_SUCCESS;
 
+import java.time.YearMonth;
+import java.util.HashMap;
+
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -11,11 +15,12 @@ import seedu.address.commons.events.ui.DisplayMonthlyExpenseEvent;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.testutil.ExpenseBuilder;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class MonthlyExpenseCommandTest {
 
-    private static final String SAMPLE_MONTH = "11/2018";
+    private static final YearMonth SAMPLE_MONTH = YearMonth.of(2018, 11);
 
     @Rule
     public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
@@ -32,4 +37,21 @@ public class MonthlyExpenseCommandTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DisplayMonthlyExpenseEvent);
         assertTrue(eventsCollectorRule.eventsCollector.getSize() == 1);
     }
+
+    @Test
+    public void execute_expensesInSelectedMonth_totalsExactCentsPerCategory() {
+        model.addExpense(new ExpenseBuilder().withExpenseCategory("food").withExpenseDate("01/11/2018")
+                .withExpenseValue("0.10").build());
+        model.addExpense(new ExpenseBuilder().withExpenseCategory("food").withExpenseDate("02/11/2018")
+                .withExpenseValue("0.20").build());
+        model.addExpense(new ExpenseBuilder().withExpenseCategory("food").withExpenseDate("01/10/2018")
+                .withExpenseValue("5.00").build());
+        new MonthlyExpenseCommand(SAMPLE_MONTH).execute(model, commandHistory);
+
+        HashMap<String, Long> expectedMonthlyData = new HashMap<>();
+        expectedMonthlyData.put("FOOD", 30L);
+        DisplayMonthlyExpenseEvent event = (DisplayMonthlyExpenseEvent) eventsCollectorRule.eventsCollector
+                .getMostRecent();
+        assertEquals(expectedMonthlyData, event.getMonthlyData());
+    }
 }
@@ -18,24 +18,33 @@ import org.junit.rules.ExpectedException;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddExpenseCommand;
 import seedu.address.logic.commands.AddTaskCommand;
+import seedu.address.logic.commands.AgendaCommand;
 import seedu.address.logic.commands.BackupCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ClearExpenseCommand;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ContactsOfCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteExpenseCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.EditExpenseCommand;
 import seedu.address.logic.commands.EditExpenseCommand.EditExpenseDescriptor;
+import seedu.address.logic.commands.EventsOfCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExpenseTrendCommand;
 import seedu.address.logic.commands.FindAddressCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFuzzyCommand;
 import seedu.address.logic.commands.FindNameCommand;
 import seedu.address.logic.commands.FindPhoneCommand;
+import seedu.address.logic.commands.FindTagCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.logic.commands.ListExpenseCommand;
 import seedu.address.logic.commands.MonthlyExpenseCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RedoExpenseCommand;
@@ -43,11 +52,13 @@ import seedu.address.logic.commands.SelectCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoExpenseCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.Date;
 import seedu.address.model.expense.Expense;
 import seedu.address.model.person.AddressContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PhoneContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.EditExpenseDescriptorBuilder;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -123,6 +134,14 @@ public class AddressBookParserTest {
         assertEquals(new FindNameCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findfuzzy() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FindFuzzyCommand command = (FindFuzzyCommand) parser.parseCommand(
+                FindFuzzyCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindFuzzyCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_findphone() throws Exception {
         List<String> keywords = Arrays.asList("98835761", "13371337", "1234567");
@@ -131,6 +150,18 @@ public class AddressBookParserTest {
         assertEquals(new FindPhoneCommand(new PhoneContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findTag() throws Exception {
+        FindTagCommand command = (FindTagCommand) parser.parseCommand(FindTagCommand.COMMAND_WORD + " cs2113");
+        assertEquals(new FindTagCommand(Tag.of("cs2113")), command);
+    }
+
+    @Test
+    public void parseCommand_agenda() throws Exception {
+        assertTrue(parser.parseCommand(AgendaCommand.COMMAND_WORD) instanceof AgendaCommand);
+        assertTrue(parser.parseCommand(AgendaCommand.COMMAND_WORD + " 3") instanceof AgendaCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -233,6 +264,45 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExpenseTrendCommand.COMMAND_WORD + " 3") instanceof ExpenseTrendCommand);
     }
 
+    @Test
+    public void parseCommand_contactsOf() throws Exception {
+        ContactsOfCommand command = (ContactsOfCommand) parser.parseCommand(
+                ContactsOfCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new ContactsOfCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseCommand_eventsOf() throws Exception {
+        EventsOfCommand command = (EventsOfCommand) parser.parseCommand(
+                EventsOfCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new EventsOfCommand(INDEX_FIRST_PERSON), command);
+    }
+
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD + " 3") instanceof ConflictsCommand);
+    }
+
+    @Test
+    public void parseCommand_freeSlots() throws Exception {
+        assertEquals(new FreeSlotsCommand(new Date("12/11/2018")),
+                parser.parseCommand(FreeSlotsCommand.COMMAND_WORD + " 12/11/2018"));
+    }
+
+    @Test
+    public void parseCommand_listEvent() throws Exception {
+        assertTrue(parser.parseCommand(ListEventCommand.COMMAND_WORD) instanceof ListEventCommand);
+        assertTrue(parser.parseCommand(ListEventCommand.COMMAND_WORD + " next/3") instanceof ListEventCommand);
+    }
+
+    @Test
+    public void parseCommand_listExpense() throws Exception {
+        assertTrue(parser.parseCommand(ListExpenseCommand.COMMAND_WORD) instanceof ListExpenseCommand);
+        assertTrue(parser.parseCommand(ListExpenseCommand.COMMAND_WORD + " from/01/10/2018 to/31/10/2018")
+                instanceof ListExpenseCommand);
+    }
+
     @Test
     public void parseCommand_monthlyExpense() throws Exception {
         assertTrue(parser.parseCommand(MonthlyExpenseCommand.COMMAND_WORD + " 10/2018")
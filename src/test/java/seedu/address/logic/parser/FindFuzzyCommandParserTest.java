@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindFuzzyCommand;
+
+public class FindFuzzyCommandParserTest {
+
+    private FindFuzzyCommandParser parser = new FindFuzzyCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindFuzzyCommand() {
+        // no leading and trailing whitespaces
+        FindFuzzyCommand expectedFindFuzzyCommand = new FindFuzzyCommand(Arrays.asList("Alise", "Bobb"));
+        assertParseSuccess(parser, "Alise Bobb", expectedFindFuzzyCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alise \n \t Bobb  \t", expectedFindFuzzyCommand);
+    }
+
+}
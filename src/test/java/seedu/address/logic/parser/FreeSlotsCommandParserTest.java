@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.model.event.Date;
+
+public class FreeSlotsCommandParserTest {
+
+    private FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_validDate_returnsFreeSlotsCommand() {
+        assertParseSuccess(parser, " 12/11/2018 ", new FreeSlotsCommand(new Date("12/11/2018")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "12/11", Date.MESSAGE_EVENT_DATE_CONSTRAINTS);
+    }
+}
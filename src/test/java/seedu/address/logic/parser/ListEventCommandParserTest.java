@@ -0,0 +1,52 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Clock;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ListEventCommand;
+import seedu.address.model.event.Date;
+
+public class ListEventCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListEventCommand.MESSAGE_USAGE);
+
+    private ListEventCommandParser parser = new ListEventCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "", new ListEventCommand());
+    }
+
+    @Test
+    public void parse_dates_returnsRangeCommand() {
+        Date start = new Date("12/11/2018");
+        Date end = new Date("18/11/2018");
+        assertParseSuccess(parser, " from/12/11/2018 to/18/11/2018",
+                new ListEventCommand(Optional.of(start), Optional.of(end)));
+        assertParseSuccess(parser, " to/18/11/2018", new ListEventCommand(Optional.empty(), Optional.of(end)));
+    }
+
+    @Test
+    public void parse_next_returnsUpcomingCommand() {
+        assertParseSuccess(parser, " next/5", new ListEventCommand(Optional.empty(), 5, Clock.systemUTC()));
+        assertParseSuccess(parser, " from/12/11/2018 next/5",
+                new ListEventCommand(Optional.of(new Date("12/11/2018")), 5, Clock.systemUTC()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "week", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " next/0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " next/five", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " next/5 to/18/11/2018", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/31/11/2018", Date.MESSAGE_EVENT_DATE_CONSTRAINTS);
+        assertParseFailure(parser, " from/18/11/2018 to/12/11/2018", ListEventCommand.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ListExpenseCommand;
+import seedu.address.model.expense.ExpenseDate;
+
+public class ListExpenseCommandParserTest {
+
+    private ListExpenseCommandParser parser = new ListExpenseCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "  ", new ListExpenseCommand());
+    }
+
+    @Test
+    public void parse_validDates_returnsListExpenseCommand() {
+        ExpenseDate start = new ExpenseDate("01/10/2018");
+        ExpenseDate end = new ExpenseDate("31/10/2018");
+        assertParseSuccess(parser, " from/01/10/2018 to/31/10/2018",
+                new ListExpenseCommand(Optional.of(start), Optional.of(end)));
+        assertParseSuccess(parser, " to/31/10/2018  from/01/10/2018 ",
+                new ListExpenseCommand(Optional.of(start), Optional.of(end)));
+        assertParseSuccess(parser, " from/01/10/2018", new ListExpenseCommand(Optional.of(start), Optional.empty()));
+        assertParseSuccess(parser, " to/31/10/2018", new ListExpenseCommand(Optional.empty(), Optional.of(end)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // preamble
+        assertParseFailure(parser, "october",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListExpenseCommand.MESSAGE_USAGE));
+
+        // invalid date
+        assertParseFailure(parser, " from/32/10/2018", ExpenseDate.MESSAGE_EXPENSE_DATE_CONSTRAINTS);
+
+        // start after end
+        assertParseFailure(parser, " from/31/10/2018 to/01/10/2018", ListExpenseCommand.MESSAGE_INVALID_RANGE);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.YearMonth;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.MonthlyExpenseCommand;
+
+public class MonthlyExpenseCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            MonthlyExpenseCommand.MESSAGE_MONTHLY_EXPENSE_COMMAND_CONSTRAINTS);
+
+    private MonthlyExpenseCommandParser parser = new MonthlyExpenseCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMonthlyExpenseCommand() {
+        assertParseSuccess(parser, "03/2018", new MonthlyExpenseCommand(YearMonth.of(2018, 3)));
+        assertParseSuccess(parser, "  11/2018  ", new MonthlyExpenseCommand(YearMonth.of(2018, 11)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "3/2018", MESSAGE_INVALID_FORMAT); // single digit month
+        assertParseFailure(parser, "1/20180", MESSAGE_INVALID_FORMAT); // right length, wrong layout
+        assertParseFailure(parser, "13/2018", MESSAGE_INVALID_FORMAT); // month out of range
+        assertParseFailure(parser, "11-2018", MESSAGE_INVALID_FORMAT); // wrong separator
+    }
+}
@@ -15,7 +15,9 @@ import static seedu.address.testutil.TypicalTasks.ASSIGNMENT1;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -24,11 +26,18 @@ import org.junit.rules.ExpectedException;
 
 import javafx.embed.swing.JFXPanel;
 
+import seedu.address.model.agenda.AgendaItem;
+import seedu.address.model.event.Event;
+import seedu.address.model.expense.Expense;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.ExpenseBookBuilder;
+import seedu.address.testutil.ExpenseBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TaskBookBuilder;
 import seedu.address.testutil.TaskBuilder;
@@ -132,6 +141,40 @@ public class ModelManagerTest {
         modelManager.getFilteredTaskList().remove(0);
     }
 
+    @Test
+    public void findPersonsByName_personsEdited_indexFollowsEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Collections.singleton(ALICE), modelManager.findPersonsByName(Arrays.asList("aLiCe", "Bob")));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Bob Lee").build();
+        modelManager.updatePerson(ALICE, renamedAlice);
+        assertTrue(modelManager.findPersonsByName(Arrays.asList("alice")).isEmpty());
+        assertEquals(Collections.singleton(renamedAlice), modelManager.findPersonsByName(Arrays.asList("bob")));
+        assertEquals(Collections.singleton(BENSON), modelManager.findPersonsByAddress(
+                Arrays.asList(BENSON.getAddress().value.split("\\s+")[0])));
+    }
+
+    @Test
+    public void getAgenda_booksChanged_mergesBooksEarliestFirst() {
+        Task task = new TaskBuilder().build();
+        Event event = new EventBuilder().build();
+        Expense earlierExpense = new ExpenseBuilder().withExpenseDate("10/11/2011").build();
+        Expense sameDayExpense = new ExpenseBuilder().build();
+        modelManager.addTask(task);
+        modelManager.addEvent(event);
+        modelManager.addExpense(sameDayExpense);
+        modelManager.addExpense(earlierExpense);
+
+        int year = LocalDate.now().getYear();
+        assertEquals(Arrays.asList(AgendaItem.ofExpense(earlierExpense), AgendaItem.ofExpense(sameDayExpense),
+                AgendaItem.ofEvent(event), AgendaItem.ofTask(task, year)), modelManager.getAgenda());
+
+        modelManager.deleteEvent(event);
+        assertEquals(Arrays.asList(AgendaItem.ofExpense(earlierExpense), AgendaItem.ofExpense(sameDayExpense),
+                AgendaItem.ofTask(task, year)), modelManager.getAgenda());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -207,6 +207,29 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void undo_personRemovedFromMiddle_personRestoredAtSamePosition() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(AMY).withPerson(BOB).withPerson(CARL).build());
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(AMY, BOB, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_uncommittedEdits_editsDiscarded() {
+        VersionedAddressBook versionedAddressBook = prepareAddressBookList(emptyAddressBook, addressBookWithAmy);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.updatePerson(AMY, CARL);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -228,6 +251,14 @@ public class VersionedAddressBookTest {
         VersionedAddressBook differentAddressBookList = prepareAddressBookList(addressBookWithBob, addressBookWithCarl);
         assertFalse(versionedAddressBook.equals(differentAddressBookList));
 
+        // same states reached by different edits -> returns true
+        VersionedAddressBook sameStatesDifferentEdits = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
+        sameStatesDifferentEdits.updatePerson(BOB, BOB);
+        sameStatesDifferentEdits.commit();
+        VersionedAddressBook sameStatesSameEdits = prepareAddressBookList(
+                addressBookWithAmy, addressBookWithBob, addressBookWithBob);
+        assertTrue(sameStatesDifferentEdits.equals(sameStatesSameEdits));
+
         // different current pointer index -> returns false
         VersionedAddressBook differentCurrentStatePointer = prepareAddressBookList(
                 addressBookWithAmy, addressBookWithBob);
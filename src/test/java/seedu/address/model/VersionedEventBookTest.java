@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBookBuilder;
+import seedu.address.testutil.EventBuilder;
+
+public class VersionedEventBookTest {
+
+    private final Event lecture = new EventBuilder().withEventCategory("Lecture").build();
+    private final Event tutorial = new EventBuilder().withEventCategory("Tutorial").build();
+
+    @Test
+    public void undoRedo_duplicateEventAdded_otherCopyLeftInPlace() {
+        VersionedEventBook versionedEventBook = new VersionedEventBook(new EventBookBuilder()
+                .withEvent(lecture).withEvent(tutorial).build());
+
+        versionedEventBook.addEvent(lecture);
+        versionedEventBook.commit();
+
+        versionedEventBook.undo();
+        assertEquals(Arrays.asList(lecture, tutorial), versionedEventBook.getEventList());
+        versionedEventBook.redo();
+        assertEquals(Arrays.asList(lecture, tutorial, lecture), versionedEventBook.getEventList());
+    }
+
+    @Test
+    public void undoRedo_duplicateEventEdited_sameCopyChanged() {
+        Event editedLecture = new EventBuilder(lecture).withEventTime("0900").build();
+        VersionedEventBook versionedEventBook = new VersionedEventBook(new EventBookBuilder()
+                .withEvent(tutorial).withEvent(lecture).build());
+        versionedEventBook.addEvent(lecture);
+        versionedEventBook.commit();
+
+        versionedEventBook.updateEvent(lecture, editedLecture);
+        versionedEventBook.removeEvent(tutorial);
+        versionedEventBook.commit();
+
+        versionedEventBook.undo();
+        assertEquals(Arrays.asList(tutorial, lecture, lecture), versionedEventBook.getEventList());
+        versionedEventBook.undo();
+        assertEquals(Arrays.asList(tutorial, lecture), versionedEventBook.getEventList());
+        versionedEventBook.redo();
+        versionedEventBook.redo();
+        assertEquals(Arrays.asList(editedLecture, lecture), versionedEventBook.getEventList());
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalExpenses.FOOD;
+import static seedu.address.testutil.TypicalExpenses.GST;
+import static seedu.address.testutil.TypicalExpenses.TRANSPORT;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.expense.Expense;
+import seedu.address.testutil.ExpenseBookBuilder;
+import seedu.address.testutil.ExpenseBuilder;
+
+public class VersionedExpenseBookTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ReadOnlyExpenseBook expenseBookWithFood = new ExpenseBookBuilder().withExpense(FOOD).build();
+
+    @Test
+    public void undoRedo_addEditRemove_inverseOperationsApplied() {
+        VersionedExpenseBook versionedExpenseBook = new VersionedExpenseBook(expenseBookWithFood);
+        Expense editedFood = new ExpenseBuilder(FOOD).withExpenseValue("1.50").build();
+
+        versionedExpenseBook.addExpense(GST);
+        versionedExpenseBook.commit();
+        versionedExpenseBook.updateExpense(FOOD, editedFood);
+        versionedExpenseBook.commit();
+        versionedExpenseBook.removeExpense(GST);
+        versionedExpenseBook.commit();
+
+        versionedExpenseBook.undo();
+        assertEquals(Arrays.asList(editedFood, GST), versionedExpenseBook.getExpenseList());
+        versionedExpenseBook.undo();
+        assertEquals(Arrays.asList(FOOD, GST), versionedExpenseBook.getExpenseList());
+        versionedExpenseBook.undo();
+        assertEquals(expenseBookWithFood, new ExpenseBook(versionedExpenseBook));
+        assertFalse(versionedExpenseBook.canUndo());
+
+        versionedExpenseBook.redo();
+        versionedExpenseBook.redo();
+        versionedExpenseBook.redo();
+        assertEquals(Arrays.asList(editedFood), versionedExpenseBook.getExpenseList());
+        assertFalse(versionedExpenseBook.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedEdits_editsDiscarded() {
+        VersionedExpenseBook versionedExpenseBook = new VersionedExpenseBook(new ExpenseBook());
+        versionedExpenseBook.addExpense(FOOD);
+        versionedExpenseBook.commit();
+        versionedExpenseBook.addExpense(TRANSPORT);
+
+        versionedExpenseBook.undo();
+        assertEquals(new ExpenseBook(), new ExpenseBook(versionedExpenseBook));
+    }
+
+    @Test
+    public void commit_afterUndo_undoneStatesRemoved() {
+        VersionedExpenseBook versionedExpenseBook = new VersionedExpenseBook(new ExpenseBook());
+        versionedExpenseBook.addExpense(FOOD);
+        versionedExpenseBook.commit();
+        versionedExpenseBook.undo();
+        versionedExpenseBook.addExpense(GST);
+        versionedExpenseBook.commit();
+
+        assertFalse(versionedExpenseBook.canRedo());
+        versionedExpenseBook.undo();
+        assertEquals(new ExpenseBook(), new ExpenseBook(versionedExpenseBook));
+    }
+
+    @Test
+    public void commit_moreThanMaxStates_oldestStatesForgotten() {
+        VersionedExpenseBook versionedExpenseBook = new VersionedExpenseBook(new ExpenseBook(), 2, Long.MAX_VALUE);
+        versionedExpenseBook.addExpense(FOOD);
+        versionedExpenseBook.commit();
+        versionedExpenseBook.addExpense(GST);
+        versionedExpenseBook.commit();
+        versionedExpenseBook.addExpense(TRANSPORT);
+        versionedExpenseBook.commit();
+
+        versionedExpenseBook.undo();
+        versionedExpenseBook.undo();
+        assertFalse(versionedExpenseBook.canUndo());
+        assertEquals(Arrays.asList(FOOD), versionedExpenseBook.getExpenseList());
+    }
+
+    @Test
+    public void commit_overByteBudget_oldestStatesForgottenLatestKept() {
+        VersionedExpenseBook versionedExpenseBook = new VersionedExpenseBook(new ExpenseBook(), Integer.MAX_VALUE, 0);
+        versionedExpenseBook.addExpense(FOOD);
+        versionedExpenseBook.commit();
+        versionedExpenseBook.addExpense(GST);
+        versionedExpenseBook.commit();
+
+        assertTrue(versionedExpenseBook.getEstimatedHistoryBytes() > 0);
+        versionedExpenseBook.undo();
+        assertFalse(versionedExpenseBook.canUndo());
+        assertEquals(Arrays.asList(FOOD), versionedExpenseBook.getExpenseList());
+    }
+
+    @Test
+    public void undo_noUndoableState_throwsNoUndoableStateException() {
+        VersionedExpenseBook versionedExpenseBook = new VersionedExpenseBook(expenseBookWithFood);
+        thrown.expect(VersionedExpenseBook.NoUndoableStateException.class);
+        versionedExpenseBook.undo();
+    }
+
+    @Test
+    public void equals() {
+        VersionedExpenseBook versionedExpenseBook = new VersionedExpenseBook(new ExpenseBook());
+        versionedExpenseBook.addExpense(FOOD);
+        versionedExpenseBook.commit();
+
+        // same states reached by different operations -> returns true
+        VersionedExpenseBook copy = new VersionedExpenseBook(new ExpenseBook());
+        copy.resetData(expenseBookWithFood);
+        copy.commit();
+        assertTrue(versionedExpenseBook.equals(copy));
+
+        // same object -> returns true
+        assertTrue(versionedExpenseBook.equals(versionedExpenseBook));
+
+        // null -> returns false
+        assertFalse(versionedExpenseBook.equals(null));
+
+        // different previous state -> returns false
+        VersionedExpenseBook differentHistory = new VersionedExpenseBook(new ExpenseBookBuilder()
+                .withExpense(GST).build());
+        differentHistory.resetData(expenseBookWithFood);
+        differentHistory.commit();
+        assertFalse(versionedExpenseBook.equals(differentHistory));
+
+        // different current state pointer -> returns false
+        copy.undo();
+        assertFalse(versionedExpenseBook.equals(copy));
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.EventBuilder;
+
+public class EventTimeIndexTest {
+
+    private final Event lecture = new EventBuilder().withEventCategory("Lecture")
+            .withEventDate("12/11/2018").withEventTime("1000").build();
+    private final Event lunch = new EventBuilder().withEventCategory("Lunch")
+            .withEventDate("12/11/2018").withEventTime("1200").build();
+    private final Event tutorial = new EventBuilder().withEventCategory("Tutorial")
+            .withEventDate("13/11/2018").withEventTime("0900").build();
+    private final Event exam = new EventBuilder().withEventCategory("Exam")
+            .withEventDate("01/12/2018").withEventTime("0900").build();
+
+    private final ObservableList<Event> events = FXCollections.observableArrayList(exam, lunch, tutorial, lecture);
+    private final EventTimeIndex index = new EventTimeIndex(events);
+
+    @Test
+    public void getEventsBetween_rangeOfDay_returnsEventsOfDayInTimeOrder() {
+        long day = lecture.getEventDate().toEpochDay() * 24 * 60;
+        assertEquals(Arrays.asList(lecture, lunch), index.getEventsBetween(day, day + 24 * 60 - 1));
+    }
+
+    @Test
+    public void getEventsBetween_boundsAreEventStarts_inclusive() {
+        assertEquals(Arrays.asList(lunch, tutorial),
+                index.getEventsBetween(lunch.toEpochMinute(), tutorial.toEpochMinute()));
+    }
+
+    @Test
+    public void getEventsBetween_emptyOrReversedRange_returnsNoEvents() {
+        assertEquals(Collections.emptyList(), index.getEventsBetween(lunch.toEpochMinute() + 1,
+                tutorial.toEpochMinute() - 1));
+        assertEquals(Collections.emptyList(), index.getEventsBetween(exam.toEpochMinute(), lecture.toEpochMinute()));
+    }
+
+    @Test
+    public void getClashesWith_eventsWithinDuration_returnsOtherClashingEvents() {
+        Event lateLecture = new EventBuilder(lecture).withEventTime("1059").build();
+        Event afterLecture = new EventBuilder(lecture).withEventTime("1100").build();
+        events.addAll(lateLecture, afterLecture);
+
+        assertEquals(Arrays.asList(lateLecture), index.getClashesWith(lecture));
+        assertEquals(Arrays.asList(lecture, afterLecture), index.getClashesWith(lateLecture));
+        assertEquals(Collections.emptyList(), index.getClashesWith(exam));
+    }
+
+    @Test
+    public void getClashes_overlappingEvents_returnsEveryPairInStartOrder() {
+        Event lateLecture = new EventBuilder(lecture).withEventTime("1030").build();
+        Event sameTimeAsLecture = new EventBuilder(lecture).withEventCategory("Meeting").build();
+        Event afterLecture = new EventBuilder(lecture).withEventTime("1100").build();
+        events.addAll(afterLecture, lateLecture, sameTimeAsLecture);
+
+        assertEquals(Arrays.asList(new EventClash(lecture, sameTimeAsLecture), new EventClash(lecture, lateLecture),
+                new EventClash(sameTimeAsLecture, lateLecture), new EventClash(lateLecture, afterLecture)),
+                index.getClashes());
+    }
+
+    @Test
+    public void getClashes_noOverlappingEvents_returnsNoClashes() {
+        assertEquals(Collections.emptyList(), index.getClashes());
+    }
+
+    @Test
+    public void listChanged_indexFollowsList() {
+        Event movedLecture = new EventBuilder(lecture).withEventDate("02/12/2018").build();
+        Event sameTimeAsLunch = new EventBuilder(lunch).withEventCategory("Meeting").build();
+
+        events.set(events.indexOf(lecture), movedLecture);
+        events.add(sameTimeAsLunch);
+        events.remove(tutorial);
+
+        assertEquals(Arrays.asList(lunch, sameTimeAsLunch, exam, movedLecture),
+                index.getEventsBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        events.setAll(tutorial);
+        assertEquals(Arrays.asList(tutorial), index.getEventsBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void getEventsBetween_unreferencedView_indexStillFollowsBackingList() {
+        ObservableList<Event> backingList = FXCollections.observableArrayList(lunch);
+        EventTimeIndex viewIndex = new EventTimeIndex(FXCollections.unmodifiableObservableList(backingList));
+
+        // the view only listens weakly to the backing list, so it must be kept alive by the index
+        System.gc();
+        backingList.add(lecture);
+        assertEquals(Arrays.asList(lecture, lunch), viewIndex.getEventsBetween(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class TimeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new Time(null));
+    }
+
+    @Test
+    public void constructor_invalidTime_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Time("2575"));
+        Assert.assertThrows(IllegalArgumentException.class, () -> new Time("9999"));
+    }
+
+    @Test
+    public void isValidTime() {
+        // null time
+        Assert.assertThrows(NullPointerException.class, () -> Time.isValidTime(null));
+
+        // invalid times
+        assertFalse(Time.isValidTime("")); // empty string
+        assertFalse(Time.isValidTime("930")); // less than 4 digits
+        assertFalse(Time.isValidTime("09300")); // more than 4 digits
+        assertFalse(Time.isValidTime("09:30")); // separator
+        assertFalse(Time.isValidTime("2400")); // hour out of range
+        assertFalse(Time.isValidTime("2575")); // hour and minute out of range
+        assertFalse(Time.isValidTime("1260")); // minute out of range
+        assertFalse(Time.isValidTime("9999"));
+
+        // valid times
+        assertTrue(Time.isValidTime("0000"));
+        assertTrue(Time.isValidTime("0930"));
+        assertTrue(Time.isValidTime("1959"));
+        assertTrue(Time.isValidTime("2359"));
+    }
+
+    @Test
+    public void getMinuteOfDay() {
+        assertEquals(0, new Time("0000").getMinuteOfDay());
+        assertEquals(9 * 60 + 30, new Time("0930").getMinuteOfDay());
+        assertEquals(23 * 60 + 59, new Time("2359").getMinuteOfDay());
+    }
+}
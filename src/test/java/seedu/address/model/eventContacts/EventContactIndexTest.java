@@ -0,0 +1,74 @@
+package seedu.address.model.eventContacts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class EventContactIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Event lunch = new EventBuilder().withEventCategory("Lunch").withTags("alice  PAULINE").build();
+    private final Event meeting = new EventBuilder().withEventCategory("Meeting")
+            .withTags("Alice Pauline", "Benson Meier", "Carl").build();
+    private final ObservableList<Event> events = FXCollections.observableArrayList(lunch, meeting);
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON);
+    private final EventContactIndex index = new EventContactIndex(events, persons);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new EventContactIndex(events, null);
+    }
+
+    @Test
+    public void getEventsOf_namesDifferInCaseAndSpacing_findsEvents() {
+        assertEquals(new HashSet<>(Arrays.asList(lunch, meeting)), index.getEventsOf(ALICE));
+        assertEquals(Collections.singleton(meeting), index.getEventsOf(BENSON));
+    }
+
+    @Test
+    public void getContactsOf_contactsWithoutPerson_skipsThem() {
+        assertEquals(Collections.singleton(ALICE), index.getContactsOf(lunch));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), index.getContactsOf(meeting));
+    }
+
+    @Test
+    public void listsChanged_joinFollowsBothLists() {
+        Person carl = new PersonBuilder().withName("carl").build();
+        persons.add(carl);
+        assertEquals(Collections.singleton(meeting), index.getEventsOf(carl));
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        persons.set(0, renamedAlice);
+        assertTrue(index.getEventsOf(renamedAlice).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, carl)), index.getContactsOf(meeting));
+
+        events.remove(meeting);
+        assertTrue(index.getEventsOf(BENSON).isEmpty());
+    }
+
+    @Test
+    public void getEventsOf_listChangedAfterLookup_resultUnchanged() {
+        Set<Event> eventsOfBenson = index.getEventsOf(BENSON);
+        events.remove(meeting);
+        assertEquals(Collections.singleton(meeting), eventsOfBenson);
+    }
+}
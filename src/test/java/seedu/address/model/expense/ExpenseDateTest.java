@@ -1,5 +1,6 @@
 package seedu.address.model.expense;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -36,4 +37,11 @@ public class ExpenseDateTest {
         assertTrue(ExpenseDate.isValidDate("11/11/2018")); // valid date
         assertTrue(ExpenseDate.isValidDate("31/12/3000")); // valid date in the future
     }
+
+    @Test
+    public void toEpochDay() {
+        assertEquals(0, new ExpenseDate("01/01/1970").toEpochDay());
+        assertEquals(17846, new ExpenseDate("11/11/2018").toEpochDay());
+        assertEquals(-1, new ExpenseDate("31/12/1969").toEpochDay());
+    }
 }
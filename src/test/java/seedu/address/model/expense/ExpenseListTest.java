@@ -0,0 +1,100 @@
+package seedu.address.model.expense;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalExpenses.DATE;
+import static seedu.address.testutil.TypicalExpenses.FOOD;
+import static seedu.address.testutil.TypicalExpenses.GST;
+import static seedu.address.testutil.TypicalExpenses.HOTEL;
+import static seedu.address.testutil.TypicalExpenses.SCHOOLFEE;
+import static seedu.address.testutil.TypicalExpenses.TRANSPORT;
+import static seedu.address.testutil.TypicalExpenses.TRAVEL;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.expense.exceptions.ExpenseNotFoundException;
+import seedu.address.testutil.ExpenseBuilder;
+
+public class ExpenseListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ExpenseList expenseList = new ExpenseList();
+
+    @Test
+    public void add_nullExpense_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        expenseList.add(null);
+    }
+
+    @Test
+    public void add_expensesInAnyOrder_keptInNaturalOrder() {
+        expenseList.add(GST);
+        expenseList.add(HOTEL);
+        expenseList.add(TRANSPORT);
+        expenseList.add(SCHOOLFEE);
+        expenseList.add(DATE);
+        expenseList.add(FOOD);
+        expenseList.add(TRAVEL);
+        assertEquals(Arrays.asList(TRANSPORT, TRAVEL, FOOD, DATE, HOTEL, GST, SCHOOLFEE),
+                expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setExpenses_targetNotInList_throwsExpenseNotFoundException() {
+        thrown.expect(ExpenseNotFoundException.class);
+        expenseList.setExpenses(FOOD, FOOD);
+    }
+
+    @Test
+    public void setExpenses_editedExpenseHasEarlierDate_expenseMoved() {
+        expenseList.setExpenses(Arrays.asList(TRANSPORT, FOOD, GST));
+        Expense editedTransport = new ExpenseBuilder(TRANSPORT).withExpenseDate("01/01/2018").build();
+        expenseList.setExpenses(TRANSPORT, editedTransport);
+        assertEquals(Arrays.asList(FOOD, GST, editedTransport), expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_expenseDoesNotExist_throwsExpenseNotFoundException() {
+        thrown.expect(ExpenseNotFoundException.class);
+        expenseList.remove(FOOD);
+    }
+
+    @Test
+    public void setExpenses_unorderedList_replacesOwnListInOrder() {
+        expenseList.add(HOTEL);
+        expenseList.setExpenses(Arrays.asList(GST, FOOD, TRANSPORT));
+        assertEquals(Arrays.asList(TRANSPORT, FOOD, GST), expenseList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mutations_eachNotifiesListenersOnce() {
+        expenseList.setExpenses(Arrays.asList(TRANSPORT, FOOD, GST));
+        int[] changes = new int[1];
+        expenseList.asUnmodifiableObservableList().addListener((ListChangeListener<Expense>) change -> changes[0]++);
+
+        expenseList.add(HOTEL);
+        assertEquals(1, changes[0]);
+
+        Expense editedFood = new ExpenseBuilder(FOOD).withExpenseValue("6.00").build();
+        expenseList.setExpenses(FOOD, editedFood);
+        assertEquals(2, changes[0]);
+
+        Expense editedTransport = new ExpenseBuilder(TRANSPORT).withExpenseDate("01/01/2018").build();
+        expenseList.setExpenses(TRANSPORT, editedTransport);
+        assertEquals(3, changes[0]);
+
+        expenseList.remove(GST);
+        assertEquals(4, changes[0]);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        expenseList.asUnmodifiableObservableList().remove(0);
+    }
+}
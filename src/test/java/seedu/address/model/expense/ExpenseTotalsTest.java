@@ -0,0 +1,69 @@
+package seedu.address.model.expense;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalExpenses.DATE;
+import static seedu.address.testutil.TypicalExpenses.FOOD;
+import static seedu.address.testutil.TypicalExpenses.HOTEL;
+import static seedu.address.testutil.TypicalExpenses.TRANSPORT;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.ExpenseBuilder;
+
+public class ExpenseTotalsTest {
+
+    private static final YearMonth OCTOBER = YearMonth.of(2018, 10);
+    private static final YearMonth NOVEMBER = YearMonth.of(2018, 11);
+
+    private final ObservableList<Expense> expenses = FXCollections.observableArrayList(FOOD, DATE);
+    private final ExpenseTotals expenseTotals = new ExpenseTotals(expenses);
+
+    @Test
+    public void getTotalsByCategory_existingExpenses_totalledPerCategory() {
+        Map<ExpenseCategory, Long> expected = new HashMap<>();
+        expected.put(FOOD.getExpenseCategory(), 500L);
+        expected.put(DATE.getExpenseCategory(), 23300L);
+        assertEquals(expected, expenseTotals.getTotalsByCategory(OCTOBER));
+        assertEquals(23800L, expenseTotals.getTotal(OCTOBER));
+        assertEquals(Collections.emptyMap(), expenseTotals.getTotalsByCategory(NOVEMBER));
+        assertEquals(0L, expenseTotals.getTotal(NOVEMBER));
+    }
+
+    @Test
+    public void getTotal_listChanged_totalsFollowList() {
+        expenses.addAll(HOTEL, TRANSPORT);
+        assertEquals(34911L, expenseTotals.getTotal(OCTOBER));
+        assertEquals(200L, expenseTotals.getTotal(NOVEMBER));
+
+        Expense foodInNovember = new ExpenseBuilder(FOOD).withExpenseDate("01/11/2018").build();
+        expenses.set(0, foodInNovember);
+        assertEquals(34411L, expenseTotals.getTotal(OCTOBER));
+        assertEquals(700L, expenseTotals.getTotal(NOVEMBER));
+
+        expenses.removeAll(DATE, HOTEL);
+        assertEquals(Collections.emptyMap(), expenseTotals.getTotalsByCategory(OCTOBER));
+
+        expenses.setAll(Arrays.asList(TRANSPORT, TRANSPORT));
+        assertEquals(Collections.singletonMap(TRANSPORT.getExpenseCategory(), 400L),
+                expenseTotals.getTotalsByCategory(NOVEMBER));
+    }
+
+    @Test
+    public void getTotal_unreferencedView_totalsStillFollowBackingList() {
+        ObservableList<Expense> backingList = FXCollections.observableArrayList(FOOD);
+        ExpenseTotals viewTotals = new ExpenseTotals(FXCollections.unmodifiableObservableList(backingList));
+
+        // the view only listens weakly to the backing list, so it must be kept alive by the totals
+        System.gc();
+        backingList.add(DATE);
+        assertEquals(23800L, viewTotals.getTotal(OCTOBER));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.expense;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -40,4 +41,30 @@ public class ExpenseValueTest {
         assertTrue(ExpenseValue.isValidExpenseValue("00000000000.01")); // can be entered and will be formatted to 0.01
         assertTrue(ExpenseValue.isValidExpenseValue("99999.99")); // largest numbers
     }
+
+    @Test
+    public void toCents() {
+        assertEquals(1, new ExpenseValue("00000000000.01").toCents()); // leading zeros are ignored
+        assertEquals(1250, new ExpenseValue("12.50").toCents());
+        assertEquals(9999999, new ExpenseValue("99999.99").toCents()); // largest value
+    }
+
+    @Test
+    public void addTo() {
+        assertEquals(30, new ExpenseValue("0.20").addTo(new ExpenseValue("0.10").toCents())); // exact, unlike doubles
+        Assert.assertThrows(ArithmeticException.class, () -> new ExpenseValue("0.01").addTo(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void sumCents() {
+        assertEquals(1250, ExpenseValue.sumCents(1000, 250));
+        Assert.assertThrows(ArithmeticException.class, () -> ExpenseValue.sumCents(Long.MAX_VALUE, 1));
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("0.05", ExpenseValue.formatCents(5));
+        assertEquals("12.50", ExpenseValue.formatCents(1250));
+        assertEquals("-1.01", ExpenseValue.formatCents(-101));
+    }
 }
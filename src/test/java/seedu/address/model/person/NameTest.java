@@ -1,8 +1,11 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -38,4 +41,14 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void containsFoldedWord() {
+        Name name = new Name("Alice  PAULINE");
+        assertTrue(name.containsFoldedWord("alice"));
+        assertTrue(name.containsFoldedWord("pauline"));
+        assertFalse(name.containsFoldedWord("PAULINE")); // keyword not folded
+        assertFalse(name.containsFoldedWord("alic")); // not a whole word
+        assertEquals(Arrays.asList("alice", "pauline"), name.getFoldedWords());
+    }
 }
@@ -49,6 +49,10 @@ public class PhoneContainsKeywordsPredicateTest {
         // Only one matching keyword
         predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("98835761", "13371337"));
         assertTrue(predicate.test(new PersonBuilder().withPhone("98835761").build()));
+
+        // Prefix keyword
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("13371337", "9883*"));
+        assertTrue(predicate.test(new PersonBuilder().withPhone("98835761").build()));
     }
 
     @Test
@@ -57,6 +61,14 @@ public class PhoneContainsKeywordsPredicateTest {
         PhoneContainsKeywordsPredicate predicate = new PhoneContainsKeywordsPredicate(Collections.emptyList());
         assertFalse(predicate.test(new PersonBuilder().withPhone("98835761").build()));
 
+        // Prefix without wildcard
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("98835"));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("98835761").build()));
+
+        // Non-matching prefix keyword
+        predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("8835*"));
+        assertFalse(predicate.test(new PersonBuilder().withPhone("98835761").build()));
+
         // Non-matching keyword
         predicate = new PhoneContainsKeywordsPredicate(Arrays.asList("13371337"));
         assertFalse(predicate.test(new PersonBuilder().withPhone("98835761").build()));
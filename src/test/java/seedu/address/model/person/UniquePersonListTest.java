@@ -4,12 +4,17 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -51,6 +56,46 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameAndEmailOnly_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personWithSamePhoneAndEmailButDifferentName_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        assertFalse(uniquePersonList.contains(renamedAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void indexOf_personInList_returnsPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        assertEquals(1, uniquePersonList.indexOf(BENSON));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BENSON));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void indexOf_personWithSameIdentityButDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -119,6 +164,17 @@ public class UniquePersonListTest {
         uniquePersonList.setPerson(ALICE, BOB);
     }
 
+    @Test
+    public void setPerson_editedPersonSharesIdentityWithTargetAndAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithBobEmail = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB)
+                .build();
+        uniquePersonList.add(aliceWithBobEmail);
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(ALICE, editedAlice);
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -177,6 +233,40 @@ public class UniquePersonListTest {
         uniquePersonList.setPersons(listWithDuplicatePersons);
     }
 
+    @Test
+    public void setPersons_listWithSameNameAndEmailPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(listWithDuplicatePersons);
+    }
+
+    @Test
+    public void findByPhonePrefix_personsAddedEditedAndRemoved_personsInPhoneOrder() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE, BOB));
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), uniquePersonList.findByPhonePrefix("9"));
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.findByPhonePrefix("943"));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPhonePrefix("7"));
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BENSON);
+        assertEquals(Arrays.asList(editedCarl, ALICE), uniquePersonList.findByPhonePrefix("9"));
+        assertEquals(Arrays.asList(BOB, editedCarl, ALICE), uniquePersonList.findByPhonePrefix(""));
+    }
+
+    @Test
+    public void findByPhone_samePhone_allPersonsWithPhoneFound() {
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(aliceWithBobPhone);
+        uniquePersonList.add(CARL);
+        assertEquals(new HashSet<>(Arrays.asList(BOB, aliceWithBobPhone)),
+                new HashSet<>(uniquePersonList.findByPhone(VALID_PHONE_BOB)));
+        assertEquals(Collections.emptyList(), uniquePersonList.findByPhone(VALID_PHONE_BOB.substring(1)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -1,5 +1,13 @@
 package seedu.address.model.tag;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -17,6 +25,29 @@ public class TagTest {
         Assert.assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
+    @Test
+    public void of_sameTagName_sameInstance() {
+        assertSame(Tag.of("friends"), Tag.of(new String("friends")));
+        assertSame(Tag.of("friends"), new Tag("friends").intern());
+    }
+
+    @Test
+    public void internAll_equalTags_sharedInstancesInEqualSet() {
+        Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("colleagues")));
+        Set<Tag> internedTags = Tag.internAll(tags);
+
+        assertEquals(tags, internedTags);
+        assertEquals(tags.hashCode(), internedTags.hashCode());
+        internedTags.forEach(tag -> assertSame(Tag.of(tag.tagName), tag));
+        assertTrue(internedTags.contains(new Tag("friends")));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> internedTags.add(Tag.of("family")));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -1,7 +1,13 @@
 package seedu.address.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.Test;
 
@@ -44,4 +50,38 @@ public class DateTimeTest {
         assertTrue(DateTime.isValidEndDateTime("11/11_14:00")); // valid date and time
         assertTrue(DateTime.isValidEndDateTime("28/2_00:00")); // valid date and time
     }
+
+    @Test
+    public void getMinuteOfYear() {
+        assertEquals(0, new DateTime("1/1").getMinuteOfYear()); // no time of day
+        assertEquals(31 * 24 * 60 + 14 * 60 + 30, new DateTime("01/02_14:30").getMinuteOfYear());
+        assertEquals(364 * 24 * 60 + 23 * 60 + 59, new DateTime("31/12_23:59").getMinuteOfYear());
+        assertEquals(DateTime.UNKNOWN_MINUTE_OF_YEAR, new DateTime("30/2").getMinuteOfYear()); // invalid date
+    }
+
+    @Test
+    public void getNextOccurrence() {
+        LocalDateTime from = LocalDateTime.of(2020, 3, 15, 12, 0);
+
+        // later this year, including a leap year after February
+        assertEquals(Optional.of(LocalDateTime.of(2020, 3, 15, 12, 0)),
+                new DateTime("15/03_12:00").getNextOccurrence(from));
+        assertEquals(Optional.of(LocalDateTime.of(2020, 12, 31, 0, 0)), new DateTime("31/12").getNextOccurrence(from));
+
+        // already passed this year -> next year
+        assertEquals(Optional.of(LocalDateTime.of(2021, 3, 15, 11, 59)),
+                new DateTime("15/03_11:59").getNextOccurrence(from));
+
+        // invalid date
+        assertEquals(Optional.empty(), new DateTime("30/2").getNextOccurrence(from));
+    }
+
+    @Test
+    public void toDayOfYear() {
+        assertEquals(0, DateTime.toDayOfYear(LocalDate.of(2020, 1, 1)));
+        assertEquals(59, DateTime.toDayOfYear(LocalDate.of(2020, 3, 1))); // leap year counted as a non-leap year
+        assertEquals(58, DateTime.toDayOfYear(LocalDate.of(2020, 2, 29))); // taken as 28 February
+        assertEquals(new DateTime("31/12").getMinuteOfYear() / MINUTES_PER_DAY,
+                DateTime.toDayOfYear(LocalDate.of(2018, 12, 31)));
+    }
 }
@@ -37,4 +37,11 @@ public class TaskNameTest {
         assertTrue(TaskName.isValidName("Assignment Submission")); // with capital letters
         assertTrue(TaskName.isValidName("CS2113 Project presentation")); // long names
     }
+
+    @Test
+    public void containsFoldedWord() {
+        TaskName name = new TaskName("Finish CS2113 Project");
+        assertTrue(name.containsFoldedWord("cs2113"));
+        assertFalse(name.containsFoldedWord("finished"));
+    }
 }
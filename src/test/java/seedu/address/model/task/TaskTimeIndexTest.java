@@ -0,0 +1,80 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.commons.util.DateUtil.MINUTES_PER_DAY;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskTimeIndexTest {
+
+    private final Task project = new TaskBuilder().withTaskName("Project")
+            .withStartDateTime("10/11").withEndDateTime("12/11_08:00").build();
+    private final Task lab = new TaskBuilder().withTaskName("Lab")
+            .withStartDateTime("12/11_14:00").withEndDateTime("12/11_16:00").build();
+    private final Task essay = new TaskBuilder().withTaskName("Essay")
+            .withStartDateTime("12/11_09:00").withEndDateTime("13/11_09:00").build();
+    private final Task nextWeek = new TaskBuilder().withTaskName("Next week")
+            .withStartDateTime("19/11").withEndDateTime("20/11_08:00").build();
+
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList(nextWeek, lab, essay, project);
+    private final TaskTimeIndex index = new TaskTimeIndex(tasks);
+
+    @Test
+    public void getTasksDuring_day_returnsTasksUnderWayInStartOrder() {
+        assertEquals(Arrays.asList(project, essay, lab), getTasksOn(2018, 11, 12));
+        assertEquals(Arrays.asList(essay), getTasksOn(2018, 11, 13));
+        assertEquals(Collections.emptyList(), getTasksOn(2018, 11, 14));
+    }
+
+    @Test
+    public void getTasksDuring_taskEndsAtStartOfPeriod_taskLeftOut() {
+        int labEnd = lab.getEndDateTime().getMinuteOfYear();
+        assertEquals(Collections.emptyList(), index.getTasksDuring(labEnd, labEnd + 60));
+    }
+
+    @Test
+    public void getTasksDuring_taskWrapsRoundEndOfYear_returnedOnBothSides() {
+        Task yearEnd = new TaskBuilder().withTaskName("Year end").withStartDateTime("30/12_09:00")
+                .withEndDateTime("02/01_12:00").build();
+        tasks.add(yearEnd);
+
+        assertEquals(Arrays.asList(yearEnd), getTasksOn(2018, 12, 31));
+        assertEquals(Arrays.asList(yearEnd), getTasksOn(2019, 1, 2));
+        assertEquals(Collections.emptyList(), getTasksOn(2019, 1, 3));
+    }
+
+    @Test
+    public void getTasksDuring_taskTakesNoTime_taskLeftOut() {
+        Task backwards = new TaskBuilder().withTaskName("Backwards").withStartDateTime("12/11_16:00")
+                .withEndDateTime("12/11_14:00").build();
+        tasks.add(backwards);
+        assertEquals(Arrays.asList(project, essay, lab), getTasksOn(2018, 11, 12));
+    }
+
+    @Test
+    public void listChanged_indexFollowsList() {
+        Task movedLab = new TaskBuilder(lab).withStartDateTime("13/11_14:00").withEndDateTime("13/11_16:00").build();
+        tasks.set(tasks.indexOf(lab), movedLab);
+        tasks.remove(essay);
+
+        assertEquals(Arrays.asList(project), getTasksOn(2018, 11, 12));
+        assertEquals(Arrays.asList(movedLab), getTasksOn(2018, 11, 13));
+
+        tasks.remove(project);
+        assertEquals(Collections.emptyList(), getTasksOn(2018, 11, 12));
+    }
+
+    private List<Task> getTasksOn(int year, int month, int dayOfMonth) {
+        int dayStart = DateTime.toDayOfYear(LocalDate.of(year, month, dayOfMonth)) * MINUTES_PER_DAY;
+        return index.getTasksDuring(dayStart, dayStart + MINUTES_PER_DAY);
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalTasks.ASSIGNMENT1;
+import static seedu.address.testutil.TypicalTasks.ASSIGNMENT2;
+import static seedu.address.testutil.TypicalTasks.PROJECT;
+import static seedu.address.testutil.TypicalTasks.QUIZ;
+import static seedu.address.testutil.TypicalTasks.QUIZ11;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.task.expections.DuplicateTaskException;
+import seedu.address.model.task.expections.TaskNotFoundException;
+import seedu.address.testutil.TaskBuilder;
+
+public class UniqueTaskListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void contains_nullTask_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniqueTaskList.contains(null);
+    }
+
+    @Test
+    public void contains_taskNotInList_returnsFalse() {
+        assertFalse(uniqueTaskList.contains(ASSIGNMENT1));
+    }
+
+    @Test
+    public void contains_taskWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueTaskList.add(ASSIGNMENT1);
+        Task editedAssignment = new TaskBuilder(ASSIGNMENT1).withPriority("LOW").withEndDateTime("1/12_10:00")
+                .build();
+        assertTrue(uniqueTaskList.contains(editedAssignment));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() {
+        uniqueTaskList.add(ASSIGNMENT1);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.add(ASSIGNMENT1);
+    }
+
+    @Test
+    public void add_tasksInAnyOrder_orderedByPriorityThenDeadline() {
+        uniqueTaskList.add(QUIZ);
+        uniqueTaskList.add(QUIZ11);
+        uniqueTaskList.add(ASSIGNMENT2);
+        uniqueTaskList.add(PROJECT);
+        uniqueTaskList.add(ASSIGNMENT1);
+        assertEquals(Arrays.asList(ASSIGNMENT1, ASSIGNMENT2, PROJECT, QUIZ11, QUIZ),
+                uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTask_targetNotInList_throwsTaskNotFoundException() {
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.setTask(ASSIGNMENT1, ASSIGNMENT1);
+    }
+
+    @Test
+    public void setTask_editedTaskHasDifferentPriority_taskMoved() {
+        uniqueTaskList.setTasks(Arrays.asList(ASSIGNMENT1, ASSIGNMENT2, QUIZ));
+        Task editedQuiz = new TaskBuilder(QUIZ).withPriority("HIGH").withEndDateTime("1/10_09:00").build();
+        uniqueTaskList.setTask(QUIZ, editedQuiz);
+        assertEquals(Arrays.asList(editedQuiz, ASSIGNMENT1, ASSIGNMENT2),
+                uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTask_editedTaskHasSameIdentityAsAnotherTask_throwsDuplicateTaskException() {
+        uniqueTaskList.add(ASSIGNMENT1);
+        uniqueTaskList.add(ASSIGNMENT2);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTask(ASSIGNMENT1, ASSIGNMENT2);
+    }
+
+    @Test
+    public void remove_taskDoesNotExist_throwsTaskNotFoundException() {
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.remove(ASSIGNMENT1);
+    }
+
+    @Test
+    public void remove_existingTask_removesTaskAndIdentity() {
+        uniqueTaskList.add(ASSIGNMENT1);
+        uniqueTaskList.remove(ASSIGNMENT1);
+        assertFalse(uniqueTaskList.contains(ASSIGNMENT1));
+        assertEquals(Collections.emptyList(), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setTasks_listWithDuplicateTasks_throwsDuplicateTaskException() {
+        List<Task> listWithDuplicateTasks = Arrays.asList(ASSIGNMENT1, ASSIGNMENT1);
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.setTasks(listWithDuplicateTasks);
+    }
+
+    @Test
+    public void setTasks_unorderedList_replacesOwnListInOrder() {
+        uniqueTaskList.add(PROJECT);
+        uniqueTaskList.setTasks(Arrays.asList(QUIZ, ASSIGNMENT2, ASSIGNMENT1));
+        assertFalse(uniqueTaskList.contains(PROJECT));
+        assertEquals(Arrays.asList(ASSIGNMENT1, ASSIGNMENT2, QUIZ), uniqueTaskList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mutations_eachNotifiesListenersOnce() {
+        uniqueTaskList.setTasks(Arrays.asList(ASSIGNMENT1, ASSIGNMENT2, QUIZ));
+        int[] changes = new int[1];
+        uniqueTaskList.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) change -> changes[0]++);
+
+        uniqueTaskList.add(PROJECT);
+        assertEquals(1, changes[0]);
+
+        Task editedQuiz = new TaskBuilder(QUIZ).withPriority("HIGH").build();
+        uniqueTaskList.setTask(QUIZ, editedQuiz);
+        assertEquals(2, changes[0]);
+
+        uniqueTaskList.remove(ASSIGNMENT2);
+        assertEquals(3, changes[0]);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        uniqueTaskList.asUnmodifiableObservableList().remove(0);
+    }
+}
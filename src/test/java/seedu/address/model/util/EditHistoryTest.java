@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class EditHistoryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<String> list = new ArrayList<>();
+    private final EditHistory<String> history = new EditHistory<>(this::apply);
+
+    @Test
+    public void undoRedo_committedEdits_editsReplayed() {
+        add("a");
+        add("b");
+        history.commit();
+        list.set(0, "c");
+        history.record(ListEdit.replacement(0, "a", "c"));
+        history.commit();
+
+        history.undo();
+        assertEquals(Arrays.asList("a", "b"), list);
+        history.undo();
+        assertEquals(Arrays.asList(), list);
+        assertFalse(history.canUndo());
+
+        history.redo();
+        history.redo();
+        assertEquals(Arrays.asList("c", "b"), list);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_pendingEdits_pendingEditsDiscarded() {
+        add("a");
+        history.commit();
+        add("b");
+
+        history.undo();
+        assertEquals(Arrays.asList(), list);
+        assertTrue(history.canRedo());
+        history.redo();
+        assertEquals(Arrays.asList("a"), list);
+    }
+
+    @Test
+    public void commit_moreThanMaxStates_oldestStatesForgotten() {
+        EditHistory<String> boundedHistory = new EditHistory<>(this::apply, 1, Long.MAX_VALUE);
+        boundedHistory.record(ListEdit.insertion(0, "a"));
+        boundedHistory.commit();
+        boundedHistory.record(ListEdit.insertion(1, "b"));
+        boundedHistory.commit();
+
+        assertEquals(1, boundedHistory.getCurrentStatePointer());
+        assertTrue(boundedHistory.getEstimatedBytes() > 0);
+    }
+
+    @Test
+    public void undo_noPreviousState_throwsNoSuchElementException() {
+        thrown.expect(NoSuchElementException.class);
+        history.undo();
+    }
+
+    /**
+     * Adds {@code element} to the end of the list and records the edit.
+     */
+    private void add(String element) {
+        list.add(element);
+        history.record(ListEdit.insertion(list.size() - 1, element));
+    }
+
+    /**
+     * Applies {@code edit} to the list, recording it like an owner of the history would.
+     */
+    private void apply(ListEdit<String> edit) {
+        List<String> removed = edit.getRemoved();
+        List<String> added = edit.getAdded();
+        for (int i = 0; i < removed.size(); i++) {
+            list.remove(edit.getIndex());
+        }
+        list.addAll(edit.getIndex(), added);
+        history.record(edit);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+
+public class FuzzyWordIndexTest {
+
+    private final ObservableList<String> sentences = FXCollections.observableArrayList();
+    private final FuzzyWordIndex<String> index = new FuzzyWordIndex<>(sentences, StringUtil::toFoldedWords);
+
+    @Test
+    public void maxDistanceFor() {
+        assertEquals(0, FuzzyWordIndex.maxDistanceFor(2));
+        assertEquals(1, FuzzyWordIndex.maxDistanceFor(3));
+        assertEquals(1, FuzzyWordIndex.maxDistanceFor(5));
+        assertEquals(2, FuzzyWordIndex.maxDistanceFor(6));
+    }
+
+    @Test
+    public void findSimilar_wordsWithinDistance_closestFirst() {
+        sentences.addAll("Benson Meier", "Elle Meyer", "Ida Mueller", "Jo Mayer");
+
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("meyer", 0);
+        expected.put("mayer", 1);
+        expected.put("meier", 1);
+        assertEquals(expected, index.findSimilar("meyer"));
+
+        // short words only match exactly
+        assertEquals(Collections.singletonMap("jo", 0), index.findSimilar("jo"));
+        assertTrue(index.findSimilar("ja").isEmpty());
+    }
+
+    @Test
+    public void findSimilar_listChanged_indexFollowsList() {
+        sentences.addAll("Elle Meyer", "Hoon Meyer");
+        sentences.remove("Elle Meyer");
+        assertEquals(Collections.singletonMap("meyer", 1), index.findSimilar("mayer"));
+        assertEquals(Collections.singleton("Hoon Meyer"), index.get("meyer"));
+
+        sentences.set(0, "Hoon Tan");
+        assertTrue(index.findSimilar("mayer").isEmpty());
+        assertEquals(Collections.singletonMap("tan", 1), index.findSimilar("tam"));
+    }
+
+    @Test
+    public void findSimilar_repetitiveWord_stillFound() {
+        sentences.addAll(Arrays.asList("ababab", "abababab"));
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("ababab", 0);
+        expected.put("abababab", 2);
+        assertEquals(expected, index.findSimilar("ababab"));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class InvertedIndexTest {
+
+    private final ObservableList<String> sentences = FXCollections.observableArrayList();
+    private final InvertedIndex<String, String> index = new InvertedIndex<>(sentences, InvertedIndexTest::wordsOf);
+
+    @Test
+    public void get_listChanged_indexFollowsList() {
+        sentences.addAll("red apple", "green apple", "red pear");
+        assertEquals(new HashSet<>(Arrays.asList("red apple", "green apple")), index.get("apple"));
+
+        sentences.remove("red apple");
+        sentences.set(0, "green pear");
+        assertTrue(index.get("apple").isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("green pear", "red pear")), index.get("pear"));
+    }
+
+    @Test
+    public void getAny_severalKeys_entriesWithAnyKey() {
+        sentences.addAll("red apple", "green apple", "red pear");
+        assertEquals(new HashSet<>(Arrays.asList("red apple", "red pear", "green apple")),
+                index.getAny(Arrays.asList("red", "green")));
+        assertEquals(Collections.emptySet(), index.getAny(Collections.singletonList("blue")));
+    }
+
+    @Test
+    public void get_unreferencedView_indexStillFollowsBackingList() {
+        ObservableList<String> backingList = FXCollections.observableArrayList("red apple");
+        InvertedIndex<String, String> viewIndex = new InvertedIndex<>(
+                FXCollections.unmodifiableObservableList(backingList), InvertedIndexTest::wordsOf);
+
+        // the view only listens weakly to the backing list, so it must be kept alive by the index
+        System.gc();
+        backingList.add("red pear");
+        assertEquals(new HashSet<>(Arrays.asList("red apple", "red pear")), viewIndex.get("red"));
+    }
+
+    private static List<String> wordsOf(String sentence) {
+        return Arrays.asList(sentence.split(" "));
+    }
+}
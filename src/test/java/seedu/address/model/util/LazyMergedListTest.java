@@ -0,0 +1,91 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class LazyMergedListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Integer> odds = FXCollections.observableArrayList(1, 3, 5, 7);
+    private final ObservableList<Integer> evens = FXCollections.observableArrayList(2, 4, 6);
+    private final ObservableList<Integer> descending = FXCollections.observableArrayList(9, 8, 0);
+    private final LazyMergedList<Integer> merged = new LazyMergedList<>(Comparator.naturalOrder());
+
+    @Before
+    public void setUp() {
+        merged.addSource(odds, odds::iterator);
+        merged.addSource(evens, evens::iterator);
+        merged.addSource(descending, () -> reversed(descending).iterator());
+    }
+
+    @Test
+    public void get_allRows_mergesSourcesInOrder() {
+        assertEquals(10, merged.size());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), merged);
+    }
+
+    @Test
+    public void get_firstRows_mergesOnlyRowsRead() {
+        assertEquals(0, merged.getMergedCount());
+        assertEquals(Integer.valueOf(2), merged.get(2));
+        assertEquals(3, merged.getMergedCount());
+        assertEquals(Integer.valueOf(0), merged.get(0));
+        assertEquals(3, merged.getMergedCount());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        merged.get(10);
+    }
+
+    @Test
+    public void sourceChanged_restartsMergeAndReplacesAllRows() {
+        merged.get(4);
+        List<String> changes = new ArrayList<>();
+        merged.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":-" + change.getRemovedSize() + "+" + change.getAddedSize());
+            }
+        });
+
+        evens.add(1, 3);
+        assertEquals(0, merged.getMergedCount());
+        assertEquals(Arrays.asList("0:-10+11"), changes);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 3, 4, 5, 6, 7, 8, 9), merged);
+
+        odds.clear();
+        assertEquals(Arrays.asList(0, 2, 3, 4, 6, 8, 9), merged);
+    }
+
+    @Test
+    public void get_equalEntries_earlierSourceFirst() {
+        LazyMergedList<String> byLength = new LazyMergedList<>(Comparator.comparingInt(String::length));
+        ObservableList<String> first = FXCollections.observableArrayList("b", "bb");
+        ObservableList<String> second = FXCollections.observableArrayList("a", "aa");
+        byLength.addSource(second, second::iterator);
+        byLength.addSource(first, first::iterator);
+        assertEquals(Arrays.asList("a", "b", "aa", "bb"), byLength);
+    }
+
+    private static <T> List<T> reversed(List<T> list) {
+        List<T> reversed = new ArrayList<>(list);
+        Collections.reverse(reversed);
+        return reversed;
+    }
+}
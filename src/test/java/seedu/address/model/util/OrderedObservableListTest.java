@@ -0,0 +1,85 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+
+public class OrderedObservableListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final OrderedObservableList<Integer> list = new OrderedObservableList<>(Comparator.naturalOrder());
+
+    @Test
+    public void insert_outOfOrder_keepsOrder() {
+        assertEquals(0, list.insert(5));
+        assertEquals(0, list.insert(1));
+        assertEquals(1, list.insert(3));
+        assertEquals(Arrays.asList(1, 3, 5), list);
+    }
+
+    @Test
+    public void add_outOfOrder_insertsInOrder() {
+        list.add(5);
+        list.addAll(Arrays.asList(4, 1));
+        assertEquals(Arrays.asList(1, 4, 5), list);
+
+        list.setAll(Arrays.asList(9, 2, 7));
+        assertEquals(Arrays.asList(2, 7, 9), list);
+    }
+
+    @Test
+    public void addAtIndex_throwsUnsupportedOperationException() {
+        list.insert(1);
+        thrown.expect(UnsupportedOperationException.class);
+        list.add(0, 5);
+    }
+
+    @Test
+    public void setAtIndex_throwsUnsupportedOperationException() {
+        list.insert(1);
+        thrown.expect(UnsupportedOperationException.class);
+        list.set(0, 5);
+    }
+
+    @Test
+    public void replace_movesElementToItsPlace() {
+        list.setAllSorted(Arrays.asList(1, 3, 5, 7));
+        assertEquals(3, list.replace(0, 6));
+        assertEquals(Arrays.asList(3, 5, 6, 7), list);
+        assertEquals(1, list.replace(1, 4));
+        assertEquals(Arrays.asList(3, 4, 6, 7), list);
+    }
+
+    @Test
+    public void replace_movedElement_notifiesSingleChange() {
+        list.setAllSorted(Arrays.asList(1, 3, 5));
+        List<Integer> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) change -> changes.add(1));
+        list.replace(0, 9);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void setAllSorted_unsortedInput_sortsElements() {
+        list.insert(4);
+        list.setAllSorted(Arrays.asList(8, 2, 6));
+        assertEquals(Arrays.asList(2, 6, 8), list);
+    }
+
+    @Test
+    public void find_presentAndAbsent() {
+        list.setAllSorted(Arrays.asList(1, 3, 5));
+        assertEquals(1, list.find(3));
+        assertEquals(-1, list.find(4));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SortedRangeViewTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(1, 3, 3, 5, 7, 9);
+    private final SortedRangeView<Integer> view = new SortedRangeView<>(source);
+
+    @Test
+    public void constructor_noRange_showsWholeList() {
+        assertFalse(view.isRangeSet());
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setRange_boundsInsideList_showsElementsInRange() {
+        view.setRange(number -> number < 3, number -> number > 7);
+        assertTrue(view.isRangeSet());
+        assertEquals(Arrays.asList(3, 3, 5, 7), view);
+    }
+
+    @Test
+    public void setRange_boundsOutsideList_showsEmptyOrWholeList() {
+        view.setRange(number -> number < 10, number -> number > 20);
+        assertEquals(Collections.emptyList(), view);
+
+        view.setRange(number -> number < 0, number -> number > 20);
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setRangeWithMaxSize_showsAtMostMaxSizeElementsFromStart() {
+        view.setRange(number -> number < 3, 2);
+        assertTrue(view.isRangeSet());
+        assertEquals(Arrays.asList(3, 3), view);
+
+        view.setRange(number -> number < 6, 10);
+        assertEquals(Arrays.asList(7, 9), view);
+
+        view.setRange(number -> number < 0, 0);
+        assertEquals(Collections.emptyList(), view);
+    }
+
+    @Test
+    public void sourceChanged_maxSizeSet_rangeKeepsMaxSize() {
+        view.setRange(number -> number < 4, 2);
+        source.add(3, 4);
+        assertEquals(Arrays.asList(4, 5), view);
+        source.remove(Integer.valueOf(4));
+        source.remove(Integer.valueOf(5));
+        assertEquals(Arrays.asList(7, 9), view);
+    }
+
+    @Test
+    public void clearRange_rangeSet_showsWholeList() {
+        view.setRange(number -> number < 5, number -> number > 5);
+        view.clearRange();
+        assertFalse(view.isRangeSet());
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void sourceChanged_rangeSet_rangeFollowsSource() {
+        view.setRange(number -> number < 3, number -> number > 7);
+        source.add(4, 6);
+        source.remove(Integer.valueOf(3));
+        source.add(0, 0);
+        assertEquals(Arrays.asList(3, 5, 6, 7), view);
+    }
+
+    @Test
+    public void sourceChanged_listenersSeeSameElementsAsView() {
+        List<Integer> mirror = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        source.add(1, 2);
+        assertEquals(source, mirror);
+
+        view.setRange(number -> number < 3, number -> number > 5);
+        assertEquals(Arrays.asList(3, 3, 5), mirror);
+
+        source.remove(Integer.valueOf(5));
+        assertEquals(Arrays.asList(3, 3), mirror);
+
+        view.clearRange();
+        assertEquals(source, mirror);
+    }
+
+    @Test
+    public void get_indexOutsideRange_throwsIndexOutOfBoundsException() {
+        view.setRange(number -> number < 3, number -> number > 3);
+        thrown.expect(IndexOutOfBoundsException.class);
+        view.get(2);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SwitchableListViewTest {
+
+    private final ObservableList<Integer> first = FXCollections.observableArrayList(1, 2, 3);
+    private final ObservableList<Integer> second = FXCollections.observableArrayList(7, 8);
+    private final SwitchableListView<Integer> view = new SwitchableListView<>(first);
+
+    @Test
+    public void show_otherList_showsOtherList() {
+        assertEquals(first, view);
+        view.show(second);
+        assertEquals(second, view);
+    }
+
+    @Test
+    public void sourceChanged_onlyShownListIsFollowed() {
+        List<Integer> mirror = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Integer>) change -> {
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        first.add(4);
+        second.add(9);
+        assertEquals(Arrays.asList(1, 2, 3, 4), mirror);
+
+        view.show(second);
+        assertEquals(Arrays.asList(7, 8, 9), mirror);
+
+        first.remove(0);
+        second.set(0, 6);
+        assertEquals(Arrays.asList(6, 8, 9), mirror);
+
+        view.show(first);
+        assertEquals(Arrays.asList(2, 3, 4), mirror);
+    }
+}
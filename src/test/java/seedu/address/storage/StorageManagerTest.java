@@ -5,11 +5,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalExpenses.getTypicalExpenseBook;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTasks.ASSIGNMENT1;
+import static seedu.address.testutil.TypicalTasks.QUIZ;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Optional;
 
 import org.junit.Before;
@@ -25,6 +28,8 @@ import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.storage.OnlineRestoreEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ExpenseBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyEventBook;
 import seedu.address.model.ReadOnlyExpenseBook;
@@ -195,6 +200,28 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleTaskBookChangedEvent_onlyTaskListViewChanged_taskBookNotSaved() {
+        XmlTaskBookStorageSaveCountingStub taskBookStorage =
+                new XmlTaskBookStorageSaveCountingStub(getTempFilePath("counted"));
+        new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new XmlExpenseBookStorage(getTempFilePath("eb")),
+                new XmlEventBookStorage(getTempFilePath("ev")),
+                taskBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Model model = new ModelManager();
+
+        model.addTask(ASSIGNMENT1);
+        model.addTask(QUIZ);
+        assertEquals(2, taskBookStorage.saveCount);
+
+        // filtering the view does not save the task book
+        model.updateFilteredTaskList(task -> task.equals(QUIZ));
+        model.updateFilteredTaskList(Model.PREDICATE_SHOW_ALL_TASKS);
+        assertEquals(2, taskBookStorage.saveCount);
+        assertEquals(Arrays.asList(ASSIGNMENT1, QUIZ), model.getTaskBook().getTaskList());
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
@@ -286,4 +313,20 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A Stub class that counts the calls to the save method instead of writing to a file
+     */
+    class XmlTaskBookStorageSaveCountingStub extends XmlTaskBookStorage {
+        private int saveCount = 0;
+
+        public XmlTaskBookStorageSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTaskBook(ReadOnlyTaskBook taskBook, Path filePath) {
+            saveCount++;
+        }
+    }
+
 }
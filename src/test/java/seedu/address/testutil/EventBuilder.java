@@ -16,7 +16,7 @@ import seedu.address.model.util.SampleDataUtil;
 public class EventBuilder {
 
     public static final String DEFAULT_EVENT_NAME = "Watch Movie";
-    public static final String DEFAULT_DATE = "11112011";
+    public static final String DEFAULT_DATE = "11/11/2011";
     public static final String DEFAULT_TIME = "1111";
 
     private EventName eventName;